@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.collector.type;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollector;
+
+import java.util.List;
+
+/**
+ * Metric family metrics collector.
+ */
+public interface MetricFamilyMetricsCollector extends MetricsCollector {
+    
+    /**
+     * Add metric.
+     *
+     * @param labelValues label values
+     * @param value value
+     */
+    void addMetric(List<String> labelValues, double value);
+    
+    /**
+     * Get raw metric family object.
+     * 
+     * @return raw metric family object
+     */
+    Object getRawMetricFamilyObject();
+    
+    /**
+     * Clean metrics.
+     */
+    default void cleanMetrics() {
+        
+    }
+}
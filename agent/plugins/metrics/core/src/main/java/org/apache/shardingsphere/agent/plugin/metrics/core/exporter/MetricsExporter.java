@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.agent.plugin.metrics.core.exporter;
 
-import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.MetricFamilyMetricsCollector;
 
 import java.util.Optional;
 
@@ -30,7 +30,7 @@ public interface MetricsExporter {
      * Export.
      * 
      * @param pluginType plugin type
-     * @return gauge metric family metrics collector
+     * @return metric family metrics collector
      */
-    Optional<GaugeMetricFamilyMetricsCollector> export(String pluginType);
+    Optional<? extends MetricFamilyMetricsCollector> export(String pluginType);
 }
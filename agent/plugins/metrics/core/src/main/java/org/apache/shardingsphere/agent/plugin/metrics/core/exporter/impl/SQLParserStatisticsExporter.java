@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserStatistics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL parser statistics exporter.
+ */
+public final class SQLParserStatisticsExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_parser_prediction_mode_total", MetricCollectorType.COUNTER_METRIC_FAMILY,
+            "Prediction modes of SQL parser by database type. sll_success_count, ll_fallback_count and ll_direct_count are counts of parsing; sll_time_millis and ll_time_millis are time spent",
+            Arrays.asList("database_type", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<CounterMetricFamilyMetricsCollector> export(final String pluginType) {
+        CounterMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, SQLParserStatistics> entry : SQLParserStatistics.getAllInstances().entrySet()) {
+            addMetrics(result, entry.getKey(), entry.getValue());
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final CounterMetricFamilyMetricsCollector collector, final String databaseType, final SQLParserStatistics statistics) {
+        collector.addMetric(Arrays.asList(databaseType, "sll_success_count"), statistics.getSLLSuccessCount());
+        collector.addMetric(Arrays.asList(databaseType, "ll_fallback_count"), statistics.getLLFallbackCount());
+        collector.addMetric(Arrays.asList(databaseType, "ll_direct_count"), statistics.getLLDirectCount());
+        collector.addMetric(Arrays.asList(databaseType, "sll_time_millis"), statistics.getSLLMillis());
+        collector.addMetric(Arrays.asList(databaseType, "ll_time_millis"), statistics.getLLMillis());
+    }
+}
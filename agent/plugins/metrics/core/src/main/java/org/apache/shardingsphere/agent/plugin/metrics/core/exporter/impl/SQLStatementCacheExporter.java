@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL statement cache exporter.
+ */
+public final class SQLStatementCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("sql_statement_cache_total", MetricCollectorType.COUNTER_METRIC_FAMILY,
+            "SQL statement cache of SQL parser by database type. hit_count, miss_count and eviction_count are counts of cache", Arrays.asList("database_type", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<CounterMetricFamilyMetricsCollector> export(final String pluginType) {
+        CounterMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<DatabaseType, SQLStatementParserEngine> entry : SQLStatementParserEngineFactory.getAllSQLStatementParserEngines().entrySet()) {
+            addMetrics(result, entry.getKey().getType(), entry.getValue().getSQLStatementCacheStats());
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final CounterMetricFamilyMetricsCollector collector, final String databaseType, final CacheStats stats) {
+        collector.addMetric(Arrays.asList(databaseType, "hit_count"), stats.hitCount());
+        collector.addMetric(Arrays.asList(databaseType, "miss_count"), stats.missCount());
+        collector.addMetric(Arrays.asList(databaseType, "eviction_count"), stats.evictionCount());
+    }
+}
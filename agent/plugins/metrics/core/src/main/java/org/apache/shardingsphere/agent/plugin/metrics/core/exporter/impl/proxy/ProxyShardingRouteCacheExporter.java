@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.CounterMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy sharding route cache exporter.
+ */
+public final class ProxyShardingRouteCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sharding_route_cache_total", MetricCollectorType.COUNTER_METRIC_FAMILY,
+            "Sharding route cache of ShardingSphere-Proxy. hit_count, miss_count and eviction_count are counts of cache; "
+                    + "load_count and load_time_millis are count and time of routing on cache miss",
+            Arrays.asList("database", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<CounterMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        CounterMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabases().values()) {
+            Optional<ShardingRule> rule = each.getRuleMetaData().findSingleRule(ShardingRule.class);
+            if (rule.isPresent() && null != rule.get().getShardingCache()) {
+                addMetrics(result, each.getName(), rule.get().getShardingCache().getRouteCache());
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final CounterMetricFamilyMetricsCollector collector, final String databaseName, final ShardingRouteCache routeCache) {
+        CacheStats stats = routeCache.getStats();
+        collector.addMetric(Arrays.asList(databaseName, "hit_count"), stats.hitCount());
+        collector.addMetric(Arrays.asList(databaseName, "miss_count"), stats.missCount());
+        collector.addMetric(Arrays.asList(databaseName, "eviction_count"), stats.evictionCount());
+        collector.addMetric(Arrays.asList(databaseName, "load_count"), routeCache.getLoadCount());
+        collector.addMetric(Arrays.asList(databaseName, "load_time_millis"), routeCache.getTotalLoadMillis());
+    }
+}
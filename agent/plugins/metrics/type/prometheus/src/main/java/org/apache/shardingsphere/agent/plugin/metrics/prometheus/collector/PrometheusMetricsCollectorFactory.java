@@ -21,6 +21,7 @@ import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsColl
 import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorFactory;
 import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsCounterCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsCounterMetricFamilyCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsGaugeCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsGaugeMetricFamilyCollector;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.collector.type.PrometheusMetricsHistogramCollector;
@@ -44,6 +45,8 @@ public final class PrometheusMetricsCollectorFactory implements MetricsCollector
                 return new PrometheusMetricsSummaryCollector(metricConfig);
             case GAUGE_METRIC_FAMILY:
                 return new PrometheusMetricsGaugeMetricFamilyCollector(metricConfig);
+            case COUNTER_METRIC_FAMILY:
+                return new PrometheusMetricsCounterMetricFamilyCollector(metricConfig);
             default:
                 throw new UnsupportedOperationException(String.format("Can not support type `%s`.", metricConfig.getType()));
         }
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter;
 
 import io.prometheus.client.Collector;
-import io.prometheus.client.GaugeMetricFamily;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
 
@@ -36,6 +35,6 @@ public final class PrometheusMetricsExporter extends Collector {
     @Override
     public List<MetricFamilySamples> collect() {
         return exporter.export("Prometheus")
-                .<List<MetricFamilySamples>>map(optional -> Collections.singletonList((GaugeMetricFamily) optional.getRawMetricFamilyObject())).orElse(Collections.emptyList());
+                .<List<MetricFamilySamples>>map(optional -> Collections.singletonList((MetricFamilySamples) optional.getRawMetricFamilyObject())).orElse(Collections.emptyList());
     }
 }
@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -32,5 +33,9 @@ public final class CommonConstants {
     
     public static final AttributeKey<Charset> CHARSET_ATTRIBUTE_KEY = AttributeKey.valueOf(Charset.class.getName());
     
+    public static final AttributeKey<AtomicInteger> BUFFERED_MESSAGES_ATTRIBUTE_KEY = AttributeKey.valueOf("BUFFERED_MESSAGES");
+    
+    public static final AttributeKey<Boolean> FLUSH_DEFERRED_ATTRIBUTE_KEY = AttributeKey.valueOf("FLUSH_DEFERRED");
+    
     public static final AtomicReference<String> PROXY_VERSION = new AtomicReference<>();
 }
@@ -22,6 +22,7 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 
 import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Channel attributes initializer.
@@ -31,6 +32,7 @@ public final class ChannelAttrInitializer extends ChannelInboundHandlerAdapter {
     @Override
     public void channelActive(final ChannelHandlerContext ctx) {
         ctx.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).setIfAbsent(Charset.defaultCharset());
+        ctx.channel().attr(CommonConstants.BUFFERED_MESSAGES_ATTRIBUTE_KEY).setIfAbsent(new AtomicInteger());
         ctx.fireChannelActive();
     }
 }
@@ -19,13 +19,25 @@ package org.apache.shardingsphere.db.protocol.netty;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.flow.FlowControlHandler;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.event.WriteCompleteEvent;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Flow control handler for ShardingSphere-Proxy.
  */
 public final class ProxyFlowControlHandler extends FlowControlHandler {
     
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+        AtomicInteger bufferedMessages = ctx.channel().attr(CommonConstants.BUFFERED_MESSAGES_ATTRIBUTE_KEY).get();
+        if (null != bufferedMessages) {
+            bufferedMessages.incrementAndGet();
+        }
+        super.channelRead(ctx, msg);
+    }
+    
     @Override
     public void userEventTriggered(final ChannelHandlerContext ctx, final Object event) {
         if (event instanceof WriteCompleteEvent) {
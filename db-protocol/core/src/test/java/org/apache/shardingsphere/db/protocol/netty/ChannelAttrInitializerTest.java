@@ -22,6 +22,7 @@ import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -35,6 +36,7 @@ class ChannelAttrInitializerTest {
         ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
         new ChannelAttrInitializer().channelActive(context);
         verify(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY)).setIfAbsent(any(Charset.class));
+        verify(context.channel().attr(CommonConstants.BUFFERED_MESSAGES_ATTRIBUTE_KEY)).setIfAbsent(any(AtomicInteger.class));
         verify(context).fireChannelActive();
     }
 }
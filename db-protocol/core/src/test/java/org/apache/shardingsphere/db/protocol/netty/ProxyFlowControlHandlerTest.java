@@ -20,11 +20,15 @@ package org.apache.shardingsphere.db.protocol.netty;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.db.protocol.event.WriteCompleteEvent;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProxyFlowControlHandlerTest {
@@ -44,4 +48,14 @@ class ProxyFlowControlHandlerTest {
         assertTrue(channel.config().isAutoRead());
         assertTrue(eventReceived.get());
     }
+    
+    @Test
+    void assertChannelReadWithBufferedMessages() {
+        EmbeddedChannel channel = new EmbeddedChannel(new ProxyFlowControlHandler());
+        AtomicInteger bufferedMessages = new AtomicInteger();
+        channel.attr(CommonConstants.BUFFERED_MESSAGES_ATTRIBUTE_KEY).set(bufferedMessages);
+        channel.config().setAutoRead(false);
+        channel.writeInbound("foo", "bar");
+        assertThat(bufferedMessages.get(), is(2));
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm.cipher;
+
+import javax.crypto.Cipher;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Cipher pool, which reuses initialized ciphers of the same key and mode.
+ *
+ * <p>Cipher is not thread safe, so it is borrowed from pool for each {@code doFinal} and returned after {@code doFinal} resets it to initialized state.
+ * At most max idle size ciphers are kept, ciphers created beyond it are discarded after use, and cipher whose {@code doFinal} failed is discarded.</p>
+ */
+public final class CipherPool {
+    
+    private static final int DEFAULT_MAX_IDLE_SIZE = Math.min(Runtime.getRuntime().availableProcessors(), 16);
+    
+    private final Supplier<Cipher> cipherFactory;
+    
+    private final BlockingQueue<Cipher> idleCiphers;
+    
+    public CipherPool(final Supplier<Cipher> cipherFactory) {
+        this(cipherFactory, DEFAULT_MAX_IDLE_SIZE);
+    }
+    
+    public CipherPool(final Supplier<Cipher> cipherFactory, final int maxIdleSize) {
+        this.cipherFactory = cipherFactory;
+        idleCiphers = new ArrayBlockingQueue<>(maxIdleSize);
+    }
+    
+    /**
+     * Encrypt or decrypt data with borrowed cipher.
+     *
+     * @param input input data
+     * @return encrypted or decrypted data
+     * @throws GeneralSecurityException general security exception
+     */
+    public byte[] doFinal(final byte[] input) throws GeneralSecurityException {
+        Cipher cipher = borrowCipher();
+        byte[] result = cipher.doFinal(input);
+        idleCiphers.offer(cipher);
+        return result;
+    }
+    
+    private Cipher borrowCipher() {
+        Cipher result = idleCiphers.poll();
+        return null == result ? cipherFactory.get() : result;
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
@@ -30,6 +32,8 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,6 +50,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private final Map<Integer, Optional<EncryptColumnDecryptor>> columnDecryptors = new HashMap<>();
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -53,20 +59,49 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Optional<EncryptColumnDecryptor> columnDecryptor = findColumnDecryptor(columnIndex);
+        return columnDecryptor.isPresent() ? columnDecryptor.get().decrypt(mergedResult.getValue(columnIndex, Object.class)) : mergedResult.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return findColumnDecryptor(columnIndex).isPresent() ? MergedResult.super.getInt(columnIndex) : mergedResult.getInt(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return findColumnDecryptor(columnIndex).isPresent() ? MergedResult.super.getLong(columnIndex) : mergedResult.getLong(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return findColumnDecryptor(columnIndex).isPresent() ? MergedResult.super.getDouble(columnIndex) : mergedResult.getDouble(columnIndex);
+    }
+    
+    private Optional<EncryptColumnDecryptor> findColumnDecryptor(final int columnIndex) {
+        Optional<EncryptColumnDecryptor> result = columnDecryptors.get(columnIndex);
+        if (null == result) {
+            result = createColumnDecryptor(columnIndex);
+            columnDecryptors.put(columnIndex, result);
+        }
+        return result;
+    }
+    
+    private Optional<EncryptColumnDecryptor> createColumnDecryptor(final int columnIndex) {
         Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
         if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
         String originalTableName = columnProjection.get().getOriginalTable().getValue();
         String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
         if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
+            return Optional.empty();
         }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
         String schemaName =
                 selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        EncryptContext encryptContext = EncryptContextBuilder.build(database.getName(), schemaName, originalTableName, originalColumnName);
+        return Optional.of(new EncryptColumnDecryptor(encryptColumn.getCipher(), encryptContext));
     }
     
     @Override
@@ -88,4 +123,9 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
@@ -87,12 +87,19 @@ public final class CipherColumnItem {
      * @param cipherValue cipher value
      * @return decrypted value
      */
-    @SuppressWarnings("unchecked")
     public Object decrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final Object cipherValue) {
-        if (null == cipherValue) {
-            return null;
-        }
-        EncryptContext context = EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName);
-        return encryptor.decrypt(cipherValue, context);
+        return null == cipherValue ? null : decrypt(EncryptContextBuilder.build(databaseName, schemaName, tableName, logicColumnName), cipherValue);
+    }
+    
+    /**
+     * Decrypt.
+     *
+     * @param encryptContext encrypt context
+     * @param cipherValue cipher value
+     * @return decrypted value
+     */
+    @SuppressWarnings("unchecked")
+    public Object decrypt(final EncryptContext encryptContext, final Object cipherValue) {
+        return null == cipherValue ? null : encryptor.decrypt(cipherValue, encryptContext);
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.algorithm.cipher;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CipherPoolTest {
+    
+    private static final byte[] SECRET_KEY = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    
+    private final AtomicInteger createdCiphersCount = new AtomicInteger();
+    
+    @Test
+    void assertDoFinalWithReusedCipher() throws GeneralSecurityException {
+        CipherPool encryptCiphers = new CipherPool(() -> createCipher(Cipher.ENCRYPT_MODE));
+        byte[] expected = encryptCiphers.doFinal("test".getBytes(StandardCharsets.UTF_8));
+        assertThat(encryptCiphers.doFinal("test".getBytes(StandardCharsets.UTF_8)), is(expected));
+        assertThat(createdCiphersCount.get(), is(1));
+    }
+    
+    @Test
+    void assertDoFinalAfterFailure() throws GeneralSecurityException {
+        byte[] cipherValue = new CipherPool(() -> createCipher(Cipher.ENCRYPT_MODE)).doFinal("test".getBytes(StandardCharsets.UTF_8));
+        CipherPool decryptCiphers = new CipherPool(() -> createCipher(Cipher.DECRYPT_MODE));
+        assertThrows(GeneralSecurityException.class, () -> decryptCiphers.doFinal(new byte[3]));
+        assertThat(new String(decryptCiphers.doFinal(cipherValue), StandardCharsets.UTF_8), is("test"));
+        assertThat(createdCiphersCount.get(), is(3));
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
+        createdCiphersCount.incrementAndGet();
+        Cipher result = Cipher.getInstance("AES");
+        result.init(cipherMode, new SecretKeySpec(SECRET_KEY, "AES"));
+        return result;
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
@@ -84,6 +85,12 @@ class AESEncryptAlgorithmTest {
         assertThat(actual, is("dSpPiyENQGDUXMKFMJPGWA=="));
     }
     
+    @Test
+    void assertEncryptRepeatedly() {
+        assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptAlgorithm.encrypt("test", mock(EncryptContext.class)), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
     @Test
     void assertEncryptNullValue() {
         assertNull(encryptAlgorithm.encrypt(null, mock(EncryptContext.class)));
@@ -95,6 +102,12 @@ class AESEncryptAlgorithmTest {
         assertThat(actual.toString(), is("test"));
     }
     
+    @Test
+    void assertDecryptAfterInvalidCipherValue() {
+        assertThrows(GeneralSecurityException.class, () -> encryptAlgorithm.decrypt("dSpPiyENQGDU", mock(EncryptContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(EncryptContext.class)).toString(), is("test"));
+    }
+    
     @Test
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EncryptColumnDecryptorTest {
+    
+    @SuppressWarnings("unchecked")
+    private final StandardEncryptAlgorithm<Object, Object> encryptor = mock(StandardEncryptAlgorithm.class);
+    
+    private final EncryptContext encryptContext = new EncryptContext("foo_db", "foo_schema", "foo_tbl", "foo_col");
+    
+    @Test
+    void assertDecrypt() {
+        when(encryptor.decrypt("foo_cipher", encryptContext)).thenReturn("foo_plain");
+        assertThat(new EncryptColumnDecryptor(new CipherColumnItem("foo_cipher_col", encryptor), encryptContext).decrypt("foo_cipher"), is("foo_plain"));
+    }
+    
+    @Test
+    void assertDecryptNullValue() {
+        assertNull(new EncryptColumnDecryptor(new CipherColumnItem("foo_cipher_col", encryptor), encryptContext).decrypt(null));
+    }
+}
@@ -17,7 +17,14 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -31,11 +38,16 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,6 +70,45 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo_value");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("foo_value"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        ColumnProjection columnProjection = mock(ColumnProjection.class, RETURNS_DEEP_STUBS);
+        when(columnProjection.getOriginalTable().getValue()).thenReturn("foo_tbl");
+        when(columnProjection.getOriginalColumn().getValue()).thenReturn("foo_col");
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+        TablesContext tablesContext = mock(TablesContext.class);
+        when(tablesContext.getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(selectStatementContext.getTablesContext()).thenReturn(tablesContext);
+        StandardEncryptAlgorithm<Object, Object> encryptor = mock(StandardEncryptAlgorithm.class);
+        when(encryptor.decrypt(eq("foo_cipher"), any(EncryptContext.class))).thenReturn("foo_plain");
+        EncryptColumn encryptColumn = mock(EncryptColumn.class);
+        when(encryptColumn.getCipher()).thenReturn(new CipherColumnItem("foo_cipher_col", encryptor));
+        EncryptTable encryptTable = mock(EncryptTable.class);
+        when(encryptTable.isEncryptColumn("foo_col")).thenReturn(true);
+        when(encryptTable.getEncryptColumn("foo_col")).thenReturn(encryptColumn);
+        when(encryptRule.findEncryptTable("foo_tbl")).thenReturn(Optional.of(encryptTable));
+        when(encryptRule.getEncryptTable("foo_tbl")).thenReturn(encryptTable);
+        when(database.getName()).thenReturn("foo_db");
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo_cipher");
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("foo_plain"));
+        assertThat(actual.getValue(1, String.class), is("foo_plain"));
+        verify(selectStatementContext).findColumnProjection(1);
+    }
+    
+    @Test
+    void assertGetLongWithoutColumnProjection() throws SQLException {
+        when(mergedResult.getLong(1)).thenReturn(1L);
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getLong(1), is(1L));
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.encrypt.sm.algorithm;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.encrypt.algorithm.cipher.CipherPool;
 import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.exception.algorithm.EncryptAlgorithmInitializationException;
 import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
@@ -67,6 +68,10 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     
     private String sm4ModePadding;
     
+    private CipherPool encryptCiphers;
+    
+    private CipherPool decryptCiphers;
+    
     @Override
     public void init(final Properties props) {
         String sm4Mode = createSm4Mode(props);
@@ -74,6 +79,8 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key(props);
         sm4Iv = createSm4Iv(props, sm4Mode);
+        encryptCiphers = new CipherPool(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCiphers = new CipherPool(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private String createSm4Mode(final Properties props) {
@@ -115,7 +122,7 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     }
     
     private byte[] encrypt(final byte[] plainValue) {
-        return handle(plainValue, Cipher.ENCRYPT_MODE);
+        return handle(plainValue, encryptCiphers);
     }
     
     @Override
@@ -124,19 +131,24 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     }
     
     private byte[] decrypt(final byte[] cipherValue) {
-        return handle(cipherValue, Cipher.DECRYPT_MODE);
+        return handle(cipherValue, decryptCiphers);
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] handle(final byte[] input, final CipherPool ciphers) {
+        return ciphers.doFinal(input);
     }
     
     @SneakyThrows(GeneralSecurityException.class)
-    private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+    private Cipher createCipher(final int mode) {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
         if (0 == sm4Iv.length) {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec);
         } else {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv));
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv));
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     @Override
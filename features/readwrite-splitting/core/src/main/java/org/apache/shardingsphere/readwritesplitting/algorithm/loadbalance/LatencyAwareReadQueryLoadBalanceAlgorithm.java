@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsAware;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware read query load-balance algorithm.
+ */
+public final class LatencyAwareReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm, ReadDataSourceStatisticsAware {
+    
+    private static final double MIN_SUCCESS_RATE = 0.01D;
+    
+    private volatile Map<String, ReadDataSourceStatistics> readDataSourceStatistics = Collections.emptyMap();
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(readDataSourceNames.size());
+        int secondIndex = (firstIndex + 1 + random.nextInt(readDataSourceNames.size() - 1)) % readDataSourceNames.size();
+        String first = readDataSourceNames.get(firstIndex);
+        String second = readDataSourceNames.get(secondIndex);
+        return getScore(first) <= getScore(second) ? first : second;
+    }
+    
+    private double getScore(final String dataSourceName) {
+        ReadDataSourceStatistics statistics = readDataSourceStatistics.get(dataSourceName);
+        if (null == statistics) {
+            return 1D;
+        }
+        return (statistics.getAverageLatencyNanos() + 1D) * (statistics.getActiveCount() + 1) / Math.max(1D - statistics.getErrorRate(), MIN_SUCCESS_RATE);
+    }
+    
+    @Override
+    public void setReadDataSourceStatistics(final Map<String, ReadDataSourceStatistics> statistics) {
+        readDataSourceStatistics = statistics;
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
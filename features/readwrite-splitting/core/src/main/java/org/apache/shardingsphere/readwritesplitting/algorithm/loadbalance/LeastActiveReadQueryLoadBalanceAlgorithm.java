@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsAware;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least active read query load-balance algorithm.
+ */
+public final class LeastActiveReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm, ReadDataSourceStatisticsAware {
+    
+    private volatile Map<String, ReadDataSourceStatistics> readDataSourceStatistics = Collections.emptyMap();
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames) {
+        int offset = ThreadLocalRandom.current().nextInt(readDataSourceNames.size());
+        String result = null;
+        int leastActiveCount = Integer.MAX_VALUE;
+        for (int i = 0; i < readDataSourceNames.size(); i++) {
+            String each = readDataSourceNames.get((offset + i) % readDataSourceNames.size());
+            ReadDataSourceStatistics statistics = readDataSourceStatistics.get(each);
+            int activeCount = null == statistics ? 0 : statistics.getActiveCount();
+            if (activeCount < leastActiveCount) {
+                result = each;
+                leastActiveCount = activeCount;
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void setReadDataSourceStatistics(final Map<String, ReadDataSourceStatistics> statistics) {
+        readDataSourceStatistics = statistics;
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_ACTIVE";
+    }
+}
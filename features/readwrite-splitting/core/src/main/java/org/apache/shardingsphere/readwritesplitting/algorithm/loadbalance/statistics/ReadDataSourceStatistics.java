@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read data source statistics.
+ */
+public final class ReadDataSourceStatistics {
+    
+    private static final double DECAY_FACTOR = 0.2D;
+    
+    private final AtomicInteger activeCount = new AtomicInteger();
+    
+    private final AtomicLong averageLatencyNanos = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+    
+    private final AtomicLong errorRate = new AtomicLong(Double.doubleToRawLongBits(0D));
+    
+    /**
+     * Handle when execution started.
+     */
+    public void start() {
+        activeCount.incrementAndGet();
+    }
+    
+    /**
+     * Handle when execution finished.
+     *
+     * @param elapsedNanos elapsed nanoseconds
+     * @param succeed is execution succeed or not
+     */
+    public void finish(final long elapsedNanos, final boolean succeed) {
+        activeCount.decrementAndGet();
+        updateMovingAverage(averageLatencyNanos, elapsedNanos);
+        updateMovingAverage(errorRate, succeed ? 0D : 1D);
+    }
+    
+    private void updateMovingAverage(final AtomicLong movingAverage, final double sample) {
+        long current;
+        long updated;
+        do {
+            current = movingAverage.get();
+            double currentValue = Double.longBitsToDouble(current);
+            updated = Double.doubleToRawLongBits(Double.isNaN(currentValue) ? sample : currentValue + DECAY_FACTOR * (sample - currentValue));
+        } while (!movingAverage.compareAndSet(current, updated));
+    }
+    
+    /**
+     * Get active count.
+     *
+     * @return active count
+     */
+    public int getActiveCount() {
+        return Math.max(activeCount.get(), 0);
+    }
+    
+    /**
+     * Get exponentially weighted moving average of latency in nanoseconds.
+     *
+     * @return average latency in nanoseconds, {@code 0} if no execution finished yet
+     */
+    public double getAverageLatencyNanos() {
+        double result = Double.longBitsToDouble(averageLatencyNanos.get());
+        return Double.isNaN(result) ? 0D : result;
+    }
+    
+    /**
+     * Get exponentially weighted moving average of error rate.
+     *
+     * @return error rate between {@code 0} and {@code 1}
+     */
+    public double getErrorRate() {
+        return Double.longBitsToDouble(errorRate.get());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL execution hook for read data source statistics.
+ *
+ * <p>Only executions on read data sources which have statistics in readwrite-splitting rule of the database are recorded.</p>
+ */
+public final class ReadDataSourceStatisticsSQLExecutionHook implements SQLExecutionHook {
+    
+    private ReadDataSourceStatistics statistics;
+    
+    private long startTimeNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+    }
+    
+    @Override
+    public void start(final RuleMetaData ruleMetaData, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps,
+                      final boolean isTrunkThread) {
+        Optional<ReadDataSourceStatistics> found = ruleMetaData.findSingleRule(ReadwriteSplittingRule.class).flatMap(optional -> optional.findReadDataSourceStatistics(dataSourceName));
+        if (!found.isPresent()) {
+            return;
+        }
+        statistics = found.get();
+        statistics.start();
+        startTimeNanos = System.nanoTime();
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish(true);
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish(false);
+    }
+    
+    private void finish(final boolean succeed) {
+        if (null == statistics) {
+            return;
+        }
+        statistics.finish(System.nanoTime() - startTimeNanos, succeed);
+        statistics = null;
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
-import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
@@ -40,7 +39,7 @@ public final class StandardReadwriteSplittingDataSourceRouter {
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
-        for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
+        for (ReadDataSourcesFilter each : rule.getReadDataSourcesFilters()) {
             result = each.filter(rule, result);
         }
         return result;
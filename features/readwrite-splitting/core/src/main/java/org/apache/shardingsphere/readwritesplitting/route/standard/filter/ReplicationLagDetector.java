@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.database.core.type.UnsupportedStorageTypeException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replication lag detector.
+ *
+ * <p>Probe results are cached per data source and refreshed on background threads, so routing never waits for a probe.
+ * Every probe is bounded by a query timeout, and a probe which does not finish in time is abandoned and its data source is regarded as lag unknown,
+ * so a hung replica neither stalls probing of other data sources nor keeps its last lag forever.
+ * Data sources with unknown lag are not regarded as lagging. The detector is held by readwrite-splitting rule and closed with it.</p>
+ */
+@Slf4j
+public final class ReplicationLagDetector implements AutoCloseable {
+    
+    /**
+     * Lag value of data sources which are not probed yet or can not be probed.
+     */
+    public static final long UNKNOWN_LAG = -1L;
+    
+    private static final long REFRESH_INTERVAL_MILLISECONDS = 5000L;
+    
+    private static final int PROBE_QUERY_TIMEOUT_SECONDS = 3;
+    
+    private static final long PROBE_TIMEOUT_MILLISECONDS = 10000L;
+    
+    private static final int PROBE_THREADS = 8;
+    
+    private static final String MYSQL_REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+    
+    private static final String MYSQL_LEGACY_REPLICA_STATUS_SQL = "SHOW SLAVE STATUS";
+    
+    private static final String POSTGRESQL_REPLICATION_LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+    
+    private static final String OPENGAUSS_REPLICATION_LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_xlog_receive_location() = pg_last_xlog_replay_location() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+    
+    private final Map<String, ReplicationLag> lags = new ConcurrentHashMap<>();
+    
+    private final ThreadPoolExecutor probeExecutor = createProbeExecutor();
+    
+    private static ThreadPoolExecutor createProbeExecutor() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(PROBE_THREADS, PROBE_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build("ReadwriteSplitting-ReplicationLag-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Get cached replication lag milliseconds, and refresh it in background if expired.
+     *
+     * @param dataSourceName data source name
+     * @param dataSource data source
+     * @return cached replication lag milliseconds, {@link #UNKNOWN_LAG} if not probed yet, can not be probed or detector is closed
+     */
+    public long getLagMilliseconds(final String dataSourceName, final DataSource dataSource) {
+        return getLagMilliseconds(dataSourceName, dataSource, System.currentTimeMillis());
+    }
+    
+    long getLagMilliseconds(final String dataSourceName, final DataSource dataSource, final long currentMilliseconds) {
+        if (probeExecutor.isShutdown()) {
+            return UNKNOWN_LAG;
+        }
+        ReplicationLag result = getReplicationLag(dataSourceName);
+        if (result.startRefresh(currentMilliseconds)) {
+            try {
+                result.refreshFuture = probeExecutor.submit(() -> refresh(dataSourceName, dataSource, result, currentMilliseconds));
+            } catch (final RejectedExecutionException ex) {
+                result.finishRefresh(currentMilliseconds, UNKNOWN_LAG);
+            }
+        }
+        return result.lagMilliseconds;
+    }
+    
+    private ReplicationLag getReplicationLag(final String dataSourceName) {
+        ReplicationLag result = lags.get(dataSourceName);
+        return null == result ? lags.computeIfAbsent(dataSourceName, key -> new ReplicationLag()) : result;
+    }
+    
+    /**
+     * Refresh replication lag of data source immediately.
+     *
+     * @param dataSourceName data source name
+     * @param dataSource data source
+     */
+    void refresh(final String dataSourceName, final DataSource dataSource) {
+        ReplicationLag replicationLag = getReplicationLag(dataSourceName);
+        long currentMilliseconds = System.currentTimeMillis();
+        if (replicationLag.refreshStartedMilliseconds.compareAndSet(0L, currentMilliseconds)) {
+            refresh(dataSourceName, dataSource, replicationLag, currentMilliseconds);
+        }
+    }
+    
+    private void refresh(final String dataSourceName, final DataSource dataSource, final ReplicationLag replicationLag, final long startedMilliseconds) {
+        long lagMilliseconds = UNKNOWN_LAG;
+        try {
+            lagMilliseconds = probe(dataSource);
+        } catch (final SQLException ex) {
+            log.warn("Probe replication lag of data source `{}` failed, it is not regarded as lagging until next successful probe.", dataSourceName, ex);
+        } catch (final UnsupportedStorageTypeException ex) {
+            log.debug("Replication lag of data source `{}` can not be probed for unsupported storage type, it is not regarded as lagging.", dataSourceName, ex);
+        } finally {
+            replicationLag.finishRefresh(startedMilliseconds, lagMilliseconds);
+        }
+    }
+    
+    private static long probe(final DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseType databaseType = DatabaseTypeFactory.get(connection.getMetaData().getURL());
+            switch (databaseType.getTrunkDatabaseType().orElse(databaseType).getType()) {
+                case "MySQL":
+                    return probeMySQL(connection);
+                case "PostgreSQL":
+                    return probePostgreSQL(connection, POSTGRESQL_REPLICATION_LAG_SQL);
+                case "openGauss":
+                    return probePostgreSQL(connection, OPENGAUSS_REPLICATION_LAG_SQL);
+                default:
+                    return UNKNOWN_LAG;
+            }
+        }
+    }
+    
+    private static long probeMySQL(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(PROBE_QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(MYSQL_REPLICA_STATUS_SQL)) {
+                return getMySQLLagMilliseconds(resultSet, "Seconds_Behind_Source");
+            } catch (final SQLException ex) {
+                log.debug("`{}` is not supported before MySQL 8.0.22, probe replication lag by `{}` instead.", MYSQL_REPLICA_STATUS_SQL, MYSQL_LEGACY_REPLICA_STATUS_SQL, ex);
+            }
+            try (ResultSet resultSet = statement.executeQuery(MYSQL_LEGACY_REPLICA_STATUS_SQL)) {
+                return getMySQLLagMilliseconds(resultSet, "Seconds_Behind_Master");
+            }
+        }
+    }
+    
+    private static long getMySQLLagMilliseconds(final ResultSet resultSet, final String columnLabel) throws SQLException {
+        if (!resultSet.next()) {
+            return 0L;
+        }
+        long result = resultSet.getLong(columnLabel);
+        return resultSet.wasNull() ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(result);
+    }
+    
+    private static long probePostgreSQL(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(PROBE_QUERY_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                return resultSet.next() ? resultSet.getLong(1) : 0L;
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        probeExecutor.shutdownNow();
+        lags.clear();
+    }
+    
+    private static final class ReplicationLag {
+        
+        private final AtomicLong refreshStartedMilliseconds = new AtomicLong();
+        
+        private volatile Future<?> refreshFuture;
+        
+        private volatile long lagMilliseconds = UNKNOWN_LAG;
+        
+        private volatile long lastRefreshedMilliseconds;
+        
+        private boolean startRefresh(final long currentMilliseconds) {
+            long startedMilliseconds = refreshStartedMilliseconds.get();
+            if (0L != startedMilliseconds) {
+                if (currentMilliseconds - startedMilliseconds >= PROBE_TIMEOUT_MILLISECONDS) {
+                    abandonRefresh(startedMilliseconds, currentMilliseconds);
+                }
+                return false;
+            }
+            return currentMilliseconds - lastRefreshedMilliseconds >= REFRESH_INTERVAL_MILLISECONDS && refreshStartedMilliseconds.compareAndSet(0L, currentMilliseconds);
+        }
+        
+        private void abandonRefresh(final long startedMilliseconds, final long currentMilliseconds) {
+            if (!refreshStartedMilliseconds.compareAndSet(startedMilliseconds, 0L)) {
+                return;
+            }
+            Future<?> future = refreshFuture;
+            if (null != future) {
+                future.cancel(true);
+            }
+            lagMilliseconds = UNKNOWN_LAG;
+            lastRefreshedMilliseconds = currentMilliseconds;
+        }
+        
+        private void finishRefresh(final long startedMilliseconds, final long lagMilliseconds) {
+            if (refreshStartedMilliseconds.compareAndSet(startedMilliseconds, 0L)) {
+                this.lagMilliseconds = lagMilliseconds;
+                lastRefreshedMilliseconds = System.currentTimeMillis();
+            }
+        }
+    }
+}
@@ -17,15 +17,23 @@
 
 package org.apache.shardingsphere.readwritesplitting.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReplicationLagDetector;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Readwrite-splitting data source rule.
@@ -41,14 +49,32 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final ReadwriteSplittingGroup readwriteSplittingGroup;
     
+    private final long maxReplicationLagMilliseconds;
+    
+    private final Collection<ReadDataSourcesFilter> readDataSourcesFilters;
+    
+    private final ReplicationLagDetector replicationLagDetector;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, DataSource> dataSources;
+    
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
                                             final ReadQueryLoadBalanceAlgorithm loadBalancer) {
+        this(config, transactionalReadQueryStrategy, loadBalancer, Collections.emptyMap(), null);
+    }
+    
+    public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
+                                            final ReadQueryLoadBalanceAlgorithm loadBalancer, final Map<String, DataSource> dataSources, final ReplicationLagDetector replicationLagDetector) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        maxReplicationLagMilliseconds = config.getMaxReplicationLagMilliseconds();
+        readDataSourcesFilters = ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class);
+        this.dataSources = dataSources;
+        this.replicationLagDetector = replicationLagDetector;
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceRuleConfiguration config) {
@@ -64,6 +90,16 @@ public final class ReadwriteSplittingDataSourceRule {
         return readwriteSplittingGroup.getWriteDataSource();
     }
     
+    /**
+     * Find data source.
+     *
+     * @param dataSourceName data source name
+     * @return found data source
+     */
+    public Optional<DataSource> findDataSource(final String dataSourceName) {
+        return Optional.ofNullable(dataSources.get(dataSourceName));
+    }
+    
     /**
      * Enable data source.
      *
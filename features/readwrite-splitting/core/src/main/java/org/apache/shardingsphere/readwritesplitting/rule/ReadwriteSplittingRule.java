@@ -23,10 +23,12 @@ import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.state.datasource.DataSourceState;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.infra.rule.event.DataSourceStatusChangedEvent;
 import org.apache.shardingsphere.infra.rule.identifier.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StaticDataSourceContainedRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.StorageConnectorReusableRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.exportable.ExportableRule;
@@ -37,13 +39,18 @@ import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceDeletedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsAware;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.rule.InvalidInlineExpressionDataSourceNameException;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReplicationLagDetector;
 import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
 
+import javax.sql.DataSource;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -55,7 +62,8 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceContainedRule, StaticDataSourceContainedRule, ExportableRule, StorageConnectorReusableRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceContainedRule, StaticDataSourceContainedRule, ExportableRule, StorageConnectorReusableRule,
+        ResourceHeldRule<ReplicationLagDetector> {
     
     private final String databaseName;
     
@@ -64,16 +72,26 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
     
     private final Map<String, ReadQueryLoadBalanceAlgorithm> loadBalancers;
     
+    private final ReplicationLagDetector replicationLagDetector;
+    
     private final Map<String, ReadwriteSplittingDataSourceRule> dataSourceRules;
     
     private final InstanceContext instanceContext;
     
+    private final Map<String, ReadDataSourceStatistics> readDataSourceStatistics;
+    
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final InstanceContext instanceContext) {
+        this(databaseName, ruleConfig, Collections.emptyMap(), instanceContext);
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final InstanceContext instanceContext) {
         this.databaseName = databaseName;
         this.instanceContext = instanceContext;
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
-        dataSourceRules = createDataSourceRules(ruleConfig);
+        replicationLagDetector = new ReplicationLagDetector();
+        dataSourceRules = createDataSourceRules(ruleConfig, dataSources);
+        readDataSourceStatistics = createReadDataSourceStatistics();
     }
     
     private Map<String, ReadQueryLoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
@@ -87,22 +105,22 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources) {
         Map<String, ReadwriteSplittingDataSourceRule> result = new HashMap<>(ruleConfig.getDataSources().size(), 1F);
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
-            result.putAll(createDataSourceRules(each));
+            result.putAll(createDataSourceRules(each, dataSources));
         }
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingDataSourceRuleConfiguration config) {
+    private Map<String, ReadwriteSplittingDataSourceRule> createDataSourceRules(final ReadwriteSplittingDataSourceRuleConfiguration config, final Map<String, DataSource> dataSources) {
         ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = loadBalancers.getOrDefault(
                 config.getName() + "." + config.getLoadBalancerName(), TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, null));
-        return createStaticDataSourceRules(config, loadBalanceAlgorithm);
+        return createStaticDataSourceRules(config, loadBalanceAlgorithm, dataSources);
     }
     
     private Map<String, ReadwriteSplittingDataSourceRule> createStaticDataSourceRules(final ReadwriteSplittingDataSourceRuleConfiguration config,
-                                                                                      final ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm) {
+                                                                                      final ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm, final Map<String, DataSource> dataSources) {
         List<String> inlineReadwriteDataSourceNames = InlineExpressionParserFactory.newInstance().splitAndEvaluate(config.getName());
         List<String> inlineWriteDatasourceNames = InlineExpressionParserFactory.newInstance().splitAndEvaluate(config.getWriteDataSourceName());
         List<List<String>> inlineReadDatasourceNames = config.getReadDataSourceNames().stream()
@@ -115,16 +133,30 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         for (int i = 0; i < inlineReadwriteDataSourceNames.size(); i++) {
             ReadwriteSplittingDataSourceRuleConfiguration staticConfig = createStaticDataSourceRuleConfiguration(
                     config, i, inlineReadwriteDataSourceNames, inlineWriteDatasourceNames, inlineReadDatasourceNames);
-            result.put(inlineReadwriteDataSourceNames.get(i), new ReadwriteSplittingDataSourceRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm));
+            result.put(inlineReadwriteDataSourceNames.get(i),
+                    new ReadwriteSplittingDataSourceRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm, dataSources, replicationLagDetector));
         }
         return result;
     }
     
+    private Map<String, ReadDataSourceStatistics> createReadDataSourceStatistics() {
+        Collection<String> readDataSourceNames = dataSourceRules.values().stream().filter(each -> each.getLoadBalancer() instanceof ReadDataSourceStatisticsAware)
+                .flatMap(each -> each.getReadwriteSplittingGroup().getReadDataSources().stream()).collect(Collectors.toSet());
+        if (readDataSourceNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, ReadDataSourceStatistics> result = new HashMap<>(readDataSourceNames.size(), 1F);
+        readDataSourceNames.forEach(each -> result.put(each, new ReadDataSourceStatistics()));
+        loadBalancers.values().stream().filter(ReadDataSourceStatisticsAware.class::isInstance).forEach(each -> ((ReadDataSourceStatisticsAware) each).setReadDataSourceStatistics(result));
+        return result;
+    }
+    
     private ReadwriteSplittingDataSourceRuleConfiguration createStaticDataSourceRuleConfiguration(final ReadwriteSplittingDataSourceRuleConfiguration config, final int index,
                                                                                                   final List<String> readwriteDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                   final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getLoadBalancerName(), config.getMaxReplicationLagMilliseconds());
     }
     
     /**
@@ -146,6 +178,16 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         return Optional.ofNullable(dataSourceRules.get(dataSourceName));
     }
     
+    /**
+     * Find read data source statistics.
+     *
+     * @param readDataSourceName read data source name
+     * @return found read data source statistics, only read data sources of statistics aware load balancers have statistics
+     */
+    public Optional<ReadDataSourceStatistics> findReadDataSourceStatistics(final String readDataSourceName) {
+        return readDataSourceStatistics.isEmpty() ? Optional.empty() : Optional.ofNullable(readDataSourceStatistics.get(readDataSourceName));
+    }
+    
     @Override
     public Map<String, Collection<String>> getDataSourceMapper() {
         Map<String, Collection<String>> result = new HashMap<>();
@@ -206,6 +248,27 @@ public final class ReadwriteSplittingRule implements DatabaseRule, DataSourceCon
         return result;
     }
     
+    @Override
+    public ReplicationLagDetector getResource() {
+        return replicationLagDetector;
+    }
+    
+    @Override
+    public void addResource(final ShardingSphereDatabase database) {
+    }
+    
+    @Override
+    public void closeStaleResource(final String databaseName) {
+        if (this.databaseName.equalsIgnoreCase(databaseName)) {
+            replicationLagDetector.close();
+        }
+    }
+    
+    @Override
+    public void closeStaleResource() {
+        replicationLagDetector.close();
+    }
+    
     @Override
     public String getType() {
         return ReadwriteSplittingRule.class.getSimpleName();
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsAware;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LatencyAwareReadQueryLoadBalanceAlgorithmTest {
+    
+    private final ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+    
+    private final Map<String, ReadDataSourceStatistics> statistics = new HashMap<>();
+    
+    @Test
+    void assertGetDataSourceWithSingleReadDataSource() {
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("latency_aware_read_ds")), is("latency_aware_read_ds"));
+    }
+    
+    @Test
+    void assertGetDataSourceWithLowerLatency() {
+        List<String> readDataSourceNames = Arrays.asList("latency_aware_slow_read_ds", "latency_aware_fast_read_ds");
+        register(readDataSourceNames);
+        record("latency_aware_slow_read_ds", 1000000000L, true);
+        record("latency_aware_fast_read_ds", 1000000L, true);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("latency_aware_fast_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetDataSourceWithLowerErrorRate() {
+        List<String> readDataSourceNames = Arrays.asList("latency_aware_failed_read_ds", "latency_aware_healthy_read_ds");
+        register(readDataSourceNames);
+        for (int i = 0; i < 10; i++) {
+            record("latency_aware_failed_read_ds", 1000000L, false);
+        }
+        record("latency_aware_healthy_read_ds", 2000000L, true);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("latency_aware_healthy_read_ds"));
+        }
+    }
+    
+    private void register(final List<String> readDataSourceNames) {
+        readDataSourceNames.forEach(each -> statistics.put(each, new ReadDataSourceStatistics()));
+        ((ReadDataSourceStatisticsAware) loadBalanceAlgorithm).setReadDataSourceStatistics(statistics);
+    }
+    
+    private void record(final String dataSourceName, final long elapsedNanos, final boolean succeed) {
+        statistics.get(dataSourceName).start();
+        statistics.get(dataSourceName).finish(elapsedNanos, succeed);
+    }
+}
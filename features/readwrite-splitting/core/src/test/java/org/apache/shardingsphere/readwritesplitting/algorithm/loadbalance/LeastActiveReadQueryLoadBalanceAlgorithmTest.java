@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatistics;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics.ReadDataSourceStatisticsAware;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LeastActiveReadQueryLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertGetDataSource() {
+        ReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(ReadQueryLoadBalanceAlgorithm.class, "LEAST_ACTIVE", new Properties());
+        List<String> readDataSourceNames = Arrays.asList("least_active_read_ds_0", "least_active_read_ds_1");
+        Map<String, ReadDataSourceStatistics> statistics = new HashMap<>(readDataSourceNames.size(), 1F);
+        readDataSourceNames.forEach(each -> statistics.put(each, new ReadDataSourceStatistics()));
+        ((ReadDataSourceStatisticsAware) loadBalanceAlgorithm).setReadDataSourceStatistics(statistics);
+        ReadDataSourceStatistics busyStatistics = statistics.get("least_active_read_ds_0");
+        busyStatistics.start();
+        busyStatistics.start();
+        statistics.get("least_active_read_ds_1").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("least_active_read_ds_1"));
+        }
+        busyStatistics.finish(1L, true);
+        busyStatistics.finish(1L, true);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames), is("least_active_read_ds_0"));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ReadDataSourceStatisticsSQLExecutionHookTest {
+    
+    private final ReadwriteSplittingRule rule = new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
+            Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Collections.singletonList("read_ds"), "least_active")),
+            Collections.singletonMap("least_active", new AlgorithmConfiguration("LEAST_ACTIVE", new Properties()))), mock(InstanceContext.class));
+    
+    private final RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(rule));
+    
+    @Test
+    void assertFinishSuccess() {
+        ReadDataSourceStatistics actual = rule.findReadDataSourceStatistics("read_ds").orElseThrow(IllegalStateException::new);
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start(ruleMetaData, "read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(actual.getActiveCount(), is(1));
+        hook.finishSuccess();
+        assertThat(actual.getActiveCount(), is(0));
+        assertThat(actual.getErrorRate(), is(0D));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        ReadDataSourceStatistics actual = rule.findReadDataSourceStatistics("read_ds").orElseThrow(IllegalStateException::new);
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start(ruleMetaData, "read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishFailure(new SQLException(""));
+        hook.finishFailure(new SQLException(""));
+        assertThat(actual.getActiveCount(), is(0));
+        assertThat(actual.getErrorRate(), is(0.2D));
+    }
+    
+    @Test
+    void assertStartWithoutStatistics() {
+        ReadDataSourceStatistics actual = rule.findReadDataSourceStatistics("read_ds").orElseThrow(IllegalStateException::new);
+        ReadDataSourceStatisticsSQLExecutionHook hook = new ReadDataSourceStatisticsSQLExecutionHook();
+        hook.start(ruleMetaData, "write_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishSuccess();
+        hook.start(new RuleMetaData(Collections.emptyList()), "read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishSuccess();
+        assertThat(actual.getActiveCount(), is(0));
+        assertThat(actual.getAverageLatencyNanos(), is(0D));
+    }
+}
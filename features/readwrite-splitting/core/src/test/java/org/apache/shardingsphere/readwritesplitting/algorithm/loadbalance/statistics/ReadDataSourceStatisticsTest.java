@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ReadDataSourceStatisticsTest {
+    
+    @Test
+    void assertNewInstance() {
+        ReadDataSourceStatistics actual = new ReadDataSourceStatistics();
+        assertThat(actual.getActiveCount(), is(0));
+        assertThat(actual.getAverageLatencyNanos(), is(0D));
+        assertThat(actual.getErrorRate(), is(0D));
+    }
+    
+    @Test
+    void assertStart() {
+        ReadDataSourceStatistics actual = new ReadDataSourceStatistics();
+        actual.start();
+        assertThat(actual.getActiveCount(), is(1));
+    }
+    
+    @Test
+    void assertFinish() {
+        ReadDataSourceStatistics actual = new ReadDataSourceStatistics();
+        actual.start();
+        actual.finish(100L, true);
+        assertThat(actual.getActiveCount(), is(0));
+        assertThat(actual.getAverageLatencyNanos(), is(100D));
+        assertThat(actual.getErrorRate(), is(0D));
+        actual.start();
+        actual.finish(200L, false);
+        assertThat(actual.getAverageLatencyNanos(), is(120D));
+        assertThat(actual.getErrorRate(), is(0.2D));
+    }
+}
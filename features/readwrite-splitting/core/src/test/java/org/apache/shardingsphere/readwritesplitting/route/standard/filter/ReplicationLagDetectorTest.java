@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(DatabaseTypeFactory.class)
+class ReplicationLagDetectorTest {
+    
+    private static final String URL = "jdbc:mock://127.0.0.1/foo_ds";
+    
+    private static final String DATA_SOURCE_NAME = "foo_ds";
+    
+    private final ReplicationLagDetector detector = new ReplicationLagDetector();
+    
+    @AfterEach
+    void tearDown() {
+        detector.close();
+    }
+    
+    @Test
+    void assertGetLagMillisecondsBeforeRefreshed() throws SQLException {
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, mockDataSource("FIXTURE")), is(ReplicationLagDetector.UNKNOWN_LAG));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithMySQLReplica() throws SQLException {
+        DataSource dataSource = mockDataSource("MySQL");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(10L);
+        when(dataSource.getConnection().createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(10000L));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithMySQLReplicationStopped() throws SQLException {
+        DataSource dataSource = mockDataSource("MySQL");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        when(dataSource.getConnection().createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithMySQLNotReplica() throws SQLException {
+        DataSource dataSource = mockDataSource("MySQL");
+        when(dataSource.getConnection().createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(mock(ResultSet.class));
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(0L));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithLegacyMySQLReplica() throws SQLException {
+        DataSource dataSource = mockDataSource("MySQL");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(3L);
+        when(dataSource.getConnection().createStatement().executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLException.class);
+        when(dataSource.getConnection().createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(3000L));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithPostgreSQLReplica() throws SQLException {
+        DataSource dataSource = mockDataSource("PostgreSQL");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(1500L);
+        when(dataSource.getConnection().createStatement().executeQuery("SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END")).thenReturn(resultSet);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(1500L));
+        verify(dataSource.getConnection().createStatement()).setQueryTimeout(3);
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithOpenGaussReplica() throws SQLException {
+        DataSource dataSource = mockDataSource("openGauss");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(800L);
+        when(dataSource.getConnection().createStatement().executeQuery("SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_xlog_receive_location() = pg_last_xlog_replay_location() THEN 0"
+                + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END")).thenReturn(resultSet);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(800L));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithUnsupportedDatabaseType() throws SQLException {
+        DataSource dataSource = mockDataSource("FIXTURE");
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(ReplicationLagDetector.UNKNOWN_LAG));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithProbeFailure() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(SQLException.class);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource), is(ReplicationLagDetector.UNKNOWN_LAG));
+    }
+    
+    @Test
+    void assertGetLagMillisecondsWithProbeTimeout() throws SQLException {
+        DataSource dataSource = mockDataSource("MySQL");
+        Connection connection = dataSource.getConnection();
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(10L);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        CountDownLatch hungProbeLatch = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            hungProbeLatch.await();
+            return connection;
+        });
+        clearInvocations(dataSource);
+        try {
+            long refreshedMilliseconds = System.currentTimeMillis() + 5000L;
+            assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource, refreshedMilliseconds), is(10000L));
+            verify(dataSource, timeout(1000L)).getConnection();
+            assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource, refreshedMilliseconds + 1000L), is(10000L));
+            assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource, refreshedMilliseconds + 10000L), is(ReplicationLagDetector.UNKNOWN_LAG));
+            assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource, refreshedMilliseconds + 15000L), is(ReplicationLagDetector.UNKNOWN_LAG));
+            verify(dataSource, timeout(1000L).times(2)).getConnection();
+        } finally {
+            hungProbeLatch.countDown();
+        }
+    }
+    
+    @Test
+    void assertGetLagMillisecondsAfterClosed() throws SQLException {
+        DataSource dataSource = mockDataSource("MySQL");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(10L);
+        when(dataSource.getConnection().createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        detector.refresh(DATA_SOURCE_NAME, dataSource);
+        detector.close();
+        clearInvocations(dataSource);
+        assertThat(detector.getLagMilliseconds(DATA_SOURCE_NAME, dataSource, System.currentTimeMillis() + 5000L), is(ReplicationLagDetector.UNKNOWN_LAG));
+        verify(dataSource, never()).getConnection();
+    }
+    
+    private DataSource mockDataSource(final String databaseTypeName) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn(URL);
+        when(result.getConnection()).thenReturn(connection);
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getType()).thenReturn(databaseTypeName);
+        when(DatabaseTypeFactory.get(URL)).thenReturn(databaseType);
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.RandomReadQueryLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(DatabaseTypeFactory.class)
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    private static final String URL = "jdbc:mock://127.0.0.1/foo_ds";
+    
+    private final List<String> readDataSourceNames = Arrays.asList("read_ds_0", "read_ds_1");
+    
+    private final ReplicationLagDetector detector = new ReplicationLagDetector();
+    
+    @AfterEach
+    void tearDown() {
+        detector.close();
+    }
+    
+    @Test
+    void assertFilterWithoutMaxReplicationLag() throws SQLException {
+        ReadwriteSplittingDataSourceRule rule = createRule(0L, createDataSources(10L, 10L));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSourceNames), is(readDataSourceNames));
+    }
+    
+    @Test
+    void assertFilterWithLaggingDataSource() throws SQLException {
+        ReadwriteSplittingDataSourceRule rule = createRule(5000L, createDataSources(10L, 1L));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSourceNames), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithAllDataSourcesLagging() throws SQLException {
+        ReadwriteSplittingDataSourceRule rule = createRule(5000L, createDataSources(10L, 10L));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSourceNames), is(readDataSourceNames));
+    }
+    
+    @Test
+    void assertFilterWithUnknownDataSources() {
+        ReadwriteSplittingDataSourceRule rule = createRule(5000L, Collections.emptyMap());
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSourceNames), is(readDataSourceNames));
+    }
+    
+    private ReadwriteSplittingDataSourceRule createRule(final long maxReplicationLagMilliseconds, final Map<String, DataSource> dataSources) {
+        ReadwriteSplittingDataSourceRuleConfiguration config = new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds", readDataSourceNames,
+                TransactionalReadQueryStrategy.DYNAMIC, null, maxReplicationLagMilliseconds);
+        return new ReadwriteSplittingDataSourceRule(config, TransactionalReadQueryStrategy.DYNAMIC, new RandomReadQueryLoadBalanceAlgorithm(), dataSources, detector);
+    }
+    
+    private Map<String, DataSource> createDataSources(final long readDataSource0LagSeconds, final long readDataSource1LagSeconds) throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getType()).thenReturn("MySQL");
+        when(DatabaseTypeFactory.get(URL)).thenReturn(databaseType);
+        Map<String, DataSource> result = new HashMap<>(2, 1F);
+        result.put("read_ds_0", createDataSource("read_ds_0", readDataSource0LagSeconds));
+        result.put("read_ds_1", createDataSource("read_ds_1", readDataSource1LagSeconds));
+        return result;
+    }
+    
+    private DataSource createDataSource(final String dataSourceName, final long lagSeconds) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getURL()).thenReturn(URL);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(lagSeconds);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(result.getConnection()).thenReturn(connection);
+        detector.refresh(dataSourceName, result);
+        return result;
+    }
+}
@@ -26,8 +26,10 @@ import org.apache.shardingsphere.mode.event.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.event.storage.StorageNodeDataSourceChangedEvent;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReplicationLagDetector;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -36,9 +38,13 @@ import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class ReadwriteSplittingRuleTest {
     
@@ -54,6 +60,42 @@ class ReadwriteSplittingRuleTest {
         assertDataSourceRule(createReadwriteSplittingRule().getSingleDataSourceRule());
     }
     
+    @Test
+    void assertFindReadDataSourceStatisticsWithStatisticsAwareLoadBalancer() {
+        ReadwriteSplittingRule actual = createStatisticsAwareReadwriteSplittingRule();
+        assertTrue(actual.findReadDataSourceStatistics("read_ds_0").isPresent());
+        assertTrue(actual.findReadDataSourceStatistics("read_ds_1").isPresent());
+        assertFalse(actual.findReadDataSourceStatistics("write_ds").isPresent());
+        assertThat(actual.findReadDataSourceStatistics("read_ds_0").get(), not(sameInstance(createStatisticsAwareReadwriteSplittingRule().findReadDataSourceStatistics("read_ds_0").get())));
+    }
+    
+    @Test
+    void assertFindReadDataSourceStatisticsWithoutStatisticsAwareLoadBalancer() {
+        assertFalse(createReadwriteSplittingRule().findReadDataSourceStatistics("read_ds_0").isPresent());
+    }
+    
+    @Test
+    void assertGetResource() {
+        ReadwriteSplittingRule actual = createReadwriteSplittingRule();
+        assertThat(actual.getResource(), sameInstance(actual.getSingleDataSourceRule().getReplicationLagDetector()));
+    }
+    
+    @Test
+    void assertCloseStaleResource() {
+        ReadwriteSplittingRule actual = createReadwriteSplittingRule();
+        actual.closeStaleResource("logic_db");
+        DataSource dataSource = mock(DataSource.class);
+        assertThat(actual.getResource().getLagMilliseconds("read_ds_0", dataSource), is(ReplicationLagDetector.UNKNOWN_LAG));
+        verifyNoInteractions(dataSource);
+    }
+    
+    private ReadwriteSplittingRule createStatisticsAwareReadwriteSplittingRule() {
+        ReadwriteSplittingDataSourceRuleConfiguration config =
+                new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "least_active");
+        return new ReadwriteSplittingRule("statistics_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("least_active", new AlgorithmConfiguration("LEAST_ACTIVE", new Properties()))), mock(InstanceContext.class));
+    }
+    
     private ReadwriteSplittingRule createReadwriteSplittingRule() {
         ReadwriteSplittingDataSourceRuleConfiguration config =
                 new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "random");
@@ -57,6 +57,7 @@ class YamlReadwriteSplittingRuleConfigurationSwapperTest {
         assertThat(config.getName(), is("t_readwrite"));
         assertThat(config.getWriteDataSourceName(), is("write_ds"));
         assertThat(config.getLoadBalancerName(), is("random"));
+        assertThat(config.getMaxReplicationLagMilliseconds(), is(1000L));
     }
     
     private ReadwriteSplittingRuleConfiguration creatReadwriteSplittingRuleConfiguration() {
@@ -79,6 +80,7 @@ class YamlReadwriteSplittingRuleConfigurationSwapperTest {
         dataSourceRuleConfig.setReadDataSourceNames(Arrays.asList("read_ds_0", "read_ds_1"));
         dataSourceRuleConfig.setWriteDataSourceName("write_ds");
         dataSourceRuleConfig.setLoadBalancerName("random");
+        dataSourceRuleConfig.setMaxReplicationLagMilliseconds(1000L);
         YamlReadwriteSplittingRuleConfiguration result = new YamlReadwriteSplittingRuleConfiguration();
         result.getDataSources().put("t_readwrite", dataSourceRuleConfig);
         YamlAlgorithmConfiguration algorithmConfig = new YamlAlgorithmConfiguration();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.classbased;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
@@ -92,6 +93,15 @@ public final class ClassBasedShardingAlgorithm implements StandardShardingAlgori
         }
     }
     
+    /**
+     * Judge whether sharding algorithm instance is deterministic.
+     *
+     * @return is deterministic or not
+     */
+    public boolean isDeterministic() {
+        return standardShardingAlgorithm instanceof DeterministicShardingAlgorithm || complexKeysShardingAlgorithm instanceof DeterministicShardingAlgorithm;
+    }
+    
     @SuppressWarnings("unchecked")
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.sharding.cache.checker.algorithm;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.sharding.algorithm.sharding.classbased.ClassBasedShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.Collection;
@@ -27,6 +30,8 @@ import java.util.HashSet;
 
 /**
  * Cacheable sharding algorithm checker.
+ * 
+ * <p>Built-in algorithms provided by {@link CacheableShardingAlgorithmClassProvider} and non-hint algorithms implementing {@link DeterministicShardingAlgorithm} are cacheable.</p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class CacheableShardingAlgorithmChecker {
@@ -49,6 +54,12 @@ public final class CacheableShardingAlgorithmChecker {
      */
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
     public static boolean isCacheableShardingAlgorithm(final ShardingAlgorithm shardingAlgorithm) {
-        return CACHEABLE_SHARDING_ALGORITHM_CLASSES.contains(shardingAlgorithm.getClass());
+        if (CACHEABLE_SHARDING_ALGORITHM_CLASSES.contains(shardingAlgorithm.getClass())) {
+            return true;
+        }
+        if (shardingAlgorithm instanceof ClassBasedShardingAlgorithm) {
+            return ((ClassBasedShardingAlgorithm) shardingAlgorithm).isDeterministic();
+        }
+        return shardingAlgorithm instanceof DeterministicShardingAlgorithm && !(shardingAlgorithm instanceof HintShardingAlgorithm);
     }
 }
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Cache for sharding route.
@@ -30,12 +33,16 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final LongAdder loadCount = new LongAdder();
+    
+    private final LongAdder totalLoadNanos = new LongAdder();
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -61,4 +68,41 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Record route result loaded on cache miss.
+     *
+     * @param loadNanos elapsed nanoseconds of loading route result
+     */
+    public void recordLoad(final long loadNanos) {
+        loadCount.increment();
+        totalLoadNanos.add(loadNanos);
+    }
+    
+    /**
+     * Get cache stats, including hit, miss and eviction counts.
+     *
+     * @return cache stats
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get count of route results loaded on cache miss.
+     *
+     * @return load count
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+    
+    /**
+     * Get total time of loading route results on cache miss.
+     *
+     * @return total load time in milliseconds
+     */
+    public long getTotalLoadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalLoadNanos.sum());
+    }
 }
@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
@@ -39,15 +43,16 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.PriorityQueue;
+import java.util.Queue;
 
 /**
  * Memory merged result for group by.
@@ -62,42 +67,65 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        List<List<Comparable<?>>> aggregationValues = createAggregationValues(aggregationProjections);
+        Collection<OrderByItem> groupByItems = selectStatementContext.getGroupByContext().getItems();
+        Map<List<Object>, GroupByAggregationRow> dataMap = new HashMap<>(1024, 1F);
+        List<Object> groupByValues = new ArrayList<>(groupByItems.size());
         for (QueryResult each : queryResults) {
             while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                loadGroupByValues(each, groupByItems, groupByValues);
+                GroupByAggregationRow row = dataMap.get(groupByValues);
+                if (null == row) {
+                    row = new GroupByAggregationRow(new MemoryQueryResultRow(each), createAggregationUnits(aggregationProjections));
+                    dataMap.put(new ArrayList<>(groupByValues), row);
+                }
+                aggregate(each, aggregationProjections, aggregationValues, row.getAggregationUnits());
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
+        List<MemoryQueryResultRow> rows = getAggregatedMemoryRows(aggregationProjections, dataMap.values());
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+        return getMemoryResultSetRows(selectStatementContext, rows, valueCaseSensitive);
+    }
+    
+    private void loadGroupByValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems, final List<Object> groupByValues) throws SQLException {
+        groupByValues.clear();
+        for (OrderByItem each : groupByItems) {
+            groupByValues.add(queryResult.getValue(each.getIndex(), Object.class));
+        }
+    }
+    
+    private List<List<Comparable<?>>> createAggregationValues(final List<AggregationProjection> aggregationProjections) {
+        List<List<Comparable<?>>> result = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            result.add(new ArrayList<>(Math.max(1, each.getDerivedAggregationProjections().size())));
+        }
+        return result;
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private AggregationUnit[] createAggregationUnits(final List<AggregationProjection> aggregationProjections) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection);
         }
-        aggregationMap.computeIfAbsent(groupByValue, unused -> selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
-                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection))));
+        return result;
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+    private void aggregate(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections,
+                           final List<List<Comparable<?>>> aggregationValues, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            List<Comparable<?>> values = aggregationValues.get(i);
+            values.clear();
+            if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, aggregationProjection));
             } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                for (AggregationProjection derived : aggregationProjection.getDerivedAggregationProjections()) {
                     values.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[i].merge(values);
         }
     }
     
@@ -107,16 +135,27 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private List<MemoryQueryResultRow> getAggregatedMemoryRows(final List<AggregationProjection> aggregationProjections, final Collection<GroupByAggregationRow> groupByAggregationRows) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groupByAggregationRows.size());
+        for (GroupByAggregationRow each : groupByAggregationRows) {
+            for (int i = 0; i < each.getAggregationUnits().length; i++) {
+                each.getMemoryQueryResultRow().setCell(aggregationProjections.get(i).getIndex(), each.getAggregationUnits()[i].getResult());
             }
+            result.add(each.getMemoryQueryResultRow());
         }
+        return result;
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    /**
+     * Get value case sensitive of columns, the index of list is column index.
+     *
+     * @param queryResult query result
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return value case sensitive of columns
+     * @throws SQLException SQL exception
+     */
+    static List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>();
         result.add(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
@@ -125,8 +164,8 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
-                                                    final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+    private static boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                           final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
             String tableName = each.getTableName().getIdentifier().getValue();
             ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
@@ -140,13 +179,39 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     }
     
     private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
+                                                              final List<MemoryQueryResultRow> rows, final List<Boolean> valueCaseSensitive) {
+        if (rows.isEmpty()) {
             Object[] data = generateReturnData(selectStatementContext);
             return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        GroupByRowComparator comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        int topN = getTopN(selectStatementContext.getPaginationContext());
+        if (topN >= rows.size()) {
+            rows.sort(comparator);
+            return rows;
+        }
+        return getTopNRows(rows, comparator, topN);
+    }
+    
+    private int getTopN(final PaginationContext paginationContext) {
+        if (null == paginationContext || !paginationContext.isHasPagination() || !paginationContext.getActualRowCount().isPresent()) {
+            return Integer.MAX_VALUE;
+        }
+        long offset = paginationContext.getActualOffset();
+        long rowCount = paginationContext.getActualRowCount().get();
+        return rowCount > Integer.MAX_VALUE - offset ? Integer.MAX_VALUE : (int) (offset + rowCount);
+    }
+    
+    private List<MemoryQueryResultRow> getTopNRows(final List<MemoryQueryResultRow> rows, final Comparator<MemoryQueryResultRow> comparator, final int topN) {
+        Queue<MemoryQueryResultRow> heap = new PriorityQueue<>(topN + 1, comparator.reversed());
+        for (MemoryQueryResultRow each : rows) {
+            heap.offer(each);
+            if (heap.size() > topN) {
+                heap.poll();
+            }
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(heap);
+        result.sort(comparator);
         return result;
     }
     
@@ -160,4 +225,13 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         }
         return result;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GroupByAggregationRow {
+        
+        private final MemoryQueryResultRow memoryQueryResultRow;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
 }
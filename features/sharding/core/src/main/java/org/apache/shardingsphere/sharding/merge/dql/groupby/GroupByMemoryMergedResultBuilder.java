@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.BufferedRowsQueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFileQueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillRowCodec;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Group by memory merged result builder.
+ * 
+ * <p>Rows are merged by {@link GroupByMemoryMergedResult} when estimated size of rows does not exceed spill threshold.
+ * Otherwise rows are partitioned by hash of group by values into spill files, partitions which still exceed spill threshold are partitioned again with another hash seed
+ * until they fit or can not be split any more, every partition is aggregated and sorted separately, and the sorted partitions are merged back by {@link GroupBySpillMergedResult}.
+ * Rows with columns or values which can not be spilled, such as BLOB, CLOB, UUID and {@code OffsetDateTime}, are always merged in memory,
+ * and rows already spilled are read back to memory once such a value is found.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupByMemoryMergedResultBuilder {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private final long spillThreshold;
+    
+    private final String spillDirectory;
+    
+    /**
+     * Build group by merged result.
+     *
+     * @param queryResults query results
+     * @param selectStatementContext select statement context
+     * @param schema schema
+     * @return group by merged result
+     * @throws SQLException SQL exception
+     */
+    public MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        if (spillThreshold <= 0 || queryResults.isEmpty() || selectStatementContext.getGroupByContext().getItems().isEmpty() || !SpillRowCodec.isSupported(queryResults.get(0).getMetaData())) {
+            return new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+        }
+        Collection<SpillFile> createdSpillFiles = new LinkedList<>();
+        boolean built = false;
+        try {
+            MergedResult result = build(queryResults, selectStatementContext, schema, createdSpillFiles);
+            built = true;
+            return result;
+        } finally {
+            if (!built) {
+                createdSpillFiles.forEach(SpillFile::close);
+            }
+        }
+    }
+    
+    private MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                               final Collection<SpillFile> createdSpillFiles) throws SQLException {
+        QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<Object[]> bufferedRows = new ArrayList<>();
+        long bufferedSize = 0L;
+        boolean spillable = true;
+        SpillFile[] partitions = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                Object[] row = loadRow(each, columnCount);
+                if (spillable && !SpillRowCodec.isSupported(row)) {
+                    spillable = false;
+                    if (null != partitions) {
+                        readPartitions(partitions, bufferedRows);
+                        partitions = null;
+                    }
+                }
+                if (null == partitions && (!spillable || bufferedSize < spillThreshold)) {
+                    bufferedRows.add(row);
+                    bufferedSize += spillable ? SpillRowCodec.estimateSize(row) : 0L;
+                    continue;
+                }
+                if (null == partitions) {
+                    partitions = createPartitions(createdSpillFiles);
+                    for (Object[] buffered : bufferedRows) {
+                        partitions[getPartitionIndex(getGroupByHashCode(selectStatementContext, buffered), 0)].write(buffered);
+                    }
+                    bufferedRows.clear();
+                }
+                partitions[getPartitionIndex(getGroupByHashCode(selectStatementContext, row), 0)].write(row);
+            }
+        }
+        if (null == partitions) {
+            return new GroupByMemoryMergedResult(Collections.singletonList(new BufferedRowsQueryResult(metaData, bufferedRows)), selectStatementContext, schema);
+        }
+        Collection<SpillFile> sortedSpillFiles = new LinkedList<>();
+        for (SpillFile each : partitions) {
+            aggregatePartition(each, 0, metaData, selectStatementContext, schema, createdSpillFiles, sortedSpillFiles);
+        }
+        return new GroupBySpillMergedResult(sortedSpillFiles, new GroupByRowComparator(selectStatementContext,
+                GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema)));
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private SpillFile[] createPartitions(final Collection<SpillFile> createdSpillFiles) {
+        SpillFile[] result = new SpillFile[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            result[i] = createSpillFile(createdSpillFiles);
+        }
+        return result;
+    }
+    
+    private SpillFile createSpillFile(final Collection<SpillFile> createdSpillFiles) {
+        SpillFile result = new SpillFile(spillDirectory);
+        createdSpillFiles.add(result);
+        return result;
+    }
+    
+    private int getGroupByHashCode(final SelectStatementContext selectStatementContext, final Object[] row) {
+        int result = 1;
+        for (OrderByItem each : selectStatementContext.getGroupByContext().getItems()) {
+            result = 31 * result + Objects.hashCode(row[each.getIndex() - 1]);
+        }
+        return result;
+    }
+    
+    private int getPartitionIndex(final int hashCode, final int depth) {
+        // Every partition depth mixes hash code with its own seed, so rows of one partition are spread again by the next depth.
+        int result = hashCode + 0x9E3779B9 * (depth + 1);
+        result = (result ^ (result >>> 16)) * 0x85EBCA6B;
+        result = (result ^ (result >>> 13)) * 0xC2B2AE35;
+        return (result ^ (result >>> 16)) & (PARTITION_COUNT - 1);
+    }
+    
+    private void readPartitions(final SpillFile[] partitions, final List<Object[]> rows) {
+        for (SpillFile each : partitions) {
+            for (Object[] row = each.read(); null != row; row = each.read()) {
+                rows.add(row);
+            }
+            each.close();
+        }
+    }
+    
+    private void aggregatePartition(final SpillFile partition, final int depth, final QueryResultMetaData metaData, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final Collection<SpillFile> createdSpillFiles, final Collection<SpillFile> sortedSpillFiles) throws SQLException {
+        if (0 == partition.getRowCount()) {
+            partition.close();
+            return;
+        }
+        if (1 == partition.getRowCount() || partition.getEstimatedSize() <= spillThreshold) {
+            sortedSpillFiles.add(sortPartition(partition, metaData, selectStatementContext, schema, createdSpillFiles));
+            return;
+        }
+        SpillFile[] subPartitions = createPartitions(createdSpillFiles);
+        boolean unsplittable = repartition(partition, subPartitions, depth + 1, selectStatementContext);
+        for (SpillFile each : subPartitions) {
+            if (unsplittable && 0 != each.getRowCount()) {
+                // Rows with one group by hash code, such as rows of one group, can not be split by any hash seed, so they are aggregated directly.
+                sortedSpillFiles.add(sortPartition(each, metaData, selectStatementContext, schema, createdSpillFiles));
+            } else {
+                aggregatePartition(each, depth + 1, metaData, selectStatementContext, schema, createdSpillFiles, sortedSpillFiles);
+            }
+        }
+    }
+    
+    private boolean repartition(final SpillFile partition, final SpillFile[] subPartitions, final int depth, final SelectStatementContext selectStatementContext) {
+        boolean result = true;
+        Integer firstHashCode = null;
+        for (Object[] row = partition.read(); null != row; row = partition.read()) {
+            int hashCode = getGroupByHashCode(selectStatementContext, row);
+            if (null == firstHashCode) {
+                firstHashCode = hashCode;
+            } else if (firstHashCode != hashCode) {
+                result = false;
+            }
+            subPartitions[getPartitionIndex(hashCode, depth)].write(row);
+        }
+        partition.close();
+        return result;
+    }
+    
+    private SpillFile sortPartition(final SpillFile partition, final QueryResultMetaData metaData, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final Collection<SpillFile> createdSpillFiles) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        SpillFile result = createSpillFile(createdSpillFiles);
+        try (SpillFileQueryResult partitionQueryResult = new SpillFileQueryResult(metaData, partition)) {
+            MergedResult mergedResult = new GroupByMemoryMergedResult(Collections.singletonList(partitionQueryResult), selectStatementContext, schema);
+            while (mergedResult.next()) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = mergedResult.getValue(i + 1, Object.class);
+                }
+                result.write(row);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFile;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Merged result for group by, which merges sorted rows spilled to disk.
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private final Collection<SpillFile> sortedSpillFiles;
+    
+    private final Queue<SpillFileCursor> cursors;
+    
+    private SpillFileCursor currentCursor;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final Collection<SpillFile> sortedSpillFiles, final Comparator<MemoryQueryResultRow> rowComparator) {
+        this.sortedSpillFiles = sortedSpillFiles;
+        cursors = new PriorityQueue<>(Math.max(1, sortedSpillFiles.size()), (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (SpillFile each : sortedSpillFiles) {
+            SpillFileCursor cursor = new SpillFileCursor(each);
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (null != currentCursor && currentCursor.next()) {
+            cursors.offer(currentCursor);
+        }
+        currentCursor = cursors.poll();
+        return null != currentCursor;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentCursor.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentCursor.getCurrentRow().getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        cursors.clear();
+        currentCursor = null;
+        sortedSpillFiles.forEach(SpillFile::close);
+    }
+    
+    private static final class SpillFileCursor {
+        
+        private final SpillFile spillFile;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        SpillFileCursor(final SpillFile spillFile) {
+            this.spillFile = spillFile;
+        }
+        
+        boolean next() {
+            Object[] row = spillFile.read();
+            if (null == row) {
+                spillFile.close();
+                currentRow = null;
+                return false;
+            }
+            currentRow = new MemoryQueryResultRow(row);
+            return true;
+        }
+    }
+}
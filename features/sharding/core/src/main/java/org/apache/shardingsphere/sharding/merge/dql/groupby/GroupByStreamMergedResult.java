@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.projection.
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
@@ -53,7 +54,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValuesLoserTree().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
@@ -61,7 +62,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValuesLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -138,4 +139,19 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         setWasNull(null == result);
         return result;
     }
+    
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return (int) ResultSetUtils.convertValue(getValue(columnIndex, int.class), int.class);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return (long) ResultSetUtils.convertValue(getValue(columnIndex, long.class), long.class);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return (double) ResultSetUtils.convertValue(getValue(columnIndex, double.class), double.class);
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Internal nodes keep the loser of every match and the overall winner is kept at the root,
+ * so replacing the winner only replays the matches from its leaf to the root, which costs about log2(k) comparisons.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    private int remainingSize;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[Math.max(1, leaves.length)];
+        remainingSize = leaves.length;
+        if (0 != leaves.length) {
+            build();
+        }
+    }
+    
+    private void build() {
+        int size = leaves.length;
+        int[] winners = new int[size * 2];
+        for (int i = 0; i < size; i++) {
+            winners[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (isBetter(right, left)) {
+                winners[node] = right;
+                losers[node] = left;
+            } else {
+                winners[node] = left;
+                losers[node] = right;
+            }
+        }
+        losers[0] = winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remainingSize;
+    }
+    
+    /**
+     * Get winner order by value.
+     * 
+     * @return winner order by value
+     */
+    public OrderByValue peek() {
+        return leaves[losers[0]];
+    }
+    
+    /**
+     * Replay matches after winner order by value iterated.
+     * 
+     * @param hasNext whether winner order by value has next data
+     */
+    public void replayWinner(final boolean hasNext) {
+        int winner = losers[0];
+        if (!hasNext) {
+            leaves[winner] = null;
+            remainingSize--;
+        }
+        for (int node = (winner + leaves.length) / 2; node > 0; node /= 2) {
+            if (isBetter(losers[node], winner)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isBetter(final int leaf, final int otherLeaf) {
+        if (null == leaves[leaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.checker.algorithm;
+
+import org.apache.shardingsphere.sharding.algorithm.sharding.mod.ModShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.DeterministicShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+class CacheableShardingAlgorithmCheckerTest {
+    
+    @Test
+    void assertIsBuiltInCacheableShardingAlgorithm() {
+        assertTrue(CacheableShardingAlgorithmChecker.isCacheableShardingAlgorithm(new ModShardingAlgorithm()));
+    }
+    
+    @Test
+    void assertIsDeterministicShardingAlgorithm() {
+        assertTrue(CacheableShardingAlgorithmChecker.isCacheableShardingAlgorithm(mock(StandardShardingAlgorithm.class, withSettings().extraInterfaces(DeterministicShardingAlgorithm.class))));
+    }
+    
+    @Test
+    void assertIsNotCacheableShardingAlgorithm() {
+        assertFalse(CacheableShardingAlgorithmChecker.isCacheableShardingAlgorithm(mock(StandardShardingAlgorithm.class)));
+        assertFalse(CacheableShardingAlgorithmChecker.isCacheableShardingAlgorithm(mock(HintShardingAlgorithm.class, withSettings().extraInterfaces(DeterministicShardingAlgorithm.class))));
+    }
+}
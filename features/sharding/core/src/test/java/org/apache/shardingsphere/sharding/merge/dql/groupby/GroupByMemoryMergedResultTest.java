@@ -22,6 +22,9 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -41,6 +44,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.Shorthan
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
@@ -56,14 +61,20 @@ import org.mockito.quality.Strictness;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.UUID;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -121,8 +132,58 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextWithTopN() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResult().getMetaData();
+        QueryResult queryResult1 = new RawMemoryQueryResult(metaData, Arrays.asList(
+                new MemoryQueryResultDataRow(Arrays.<Object>asList(20, 0, 2, 2, 20)), new MemoryQueryResultDataRow(Arrays.<Object>asList(40, 0, 4, 4, 40))));
+        QueryResult queryResult2 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(30, 0, 3, 3, 30))));
+        QueryResult queryResult3 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(10, 0, 1, 1, 10))));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        MySQLSelectStatement selectStatement = createSelectStatement();
+        selectStatement.setLimit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 1L), new NumberLiteralLimitValueSegment(0, 0, 2L)));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(selectStatement), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithMaxRowCount() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResult().getMetaData();
+        QueryResult queryResult1 = new RawMemoryQueryResult(metaData, Arrays.asList(
+                new MemoryQueryResultDataRow(Arrays.<Object>asList(20, 0, 2, 2, 20)), new MemoryQueryResultDataRow(Arrays.<Object>asList(40, 0, 4, 4, 40))));
+        QueryResult queryResult2 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(30, 0, 3, 3, 30))));
+        QueryResult queryResult3 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(10, 0, 1, 1, 10))));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        MySQLSelectStatement selectStatement = createSelectStatement();
+        selectStatement.setLimit(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 1L), new NumberLiteralLimitValueSegment(0, 0, Long.MAX_VALUE)));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(selectStatement), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertFalse(actual.next());
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
-        SelectStatement selectStatement = new MySQLSelectStatement();
+        return createSelectStatementContext(createSelectStatement());
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final SelectStatement selectStatement) {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        return new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private MySQLSelectStatement createSelectStatement() {
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
         projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
         projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
@@ -130,9 +191,7 @@ class GroupByMemoryMergedResultTest {
         selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
         selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
         selectStatement.setProjections(projectionsSegment);
-        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
-        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
-        return new SelectStatementContext(createShardingSphereMetaData(database), Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        return selectStatement;
     }
     
     private SelectStatementContext createSelectStatementContext(final ShardingSphereDatabase database) {
@@ -187,6 +246,91 @@ class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextWithSpillToDisk() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResult().getMetaData();
+        when(metaData.getColumnType(anyInt())).thenReturn(Types.INTEGER);
+        QueryResult queryResult1 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(20, 0, 2, 2, 20))));
+        QueryResult queryResult2 = new RawMemoryQueryResult(metaData, Collections.emptyList());
+        QueryResult queryResult3 = new RawMemoryQueryResult(metaData, Arrays.asList(
+                new MemoryQueryResultDataRow(Arrays.<Object>asList(20, 0, 2, 2, 20)), new MemoryQueryResultDataRow(Arrays.<Object>asList(30, 0, 3, 3, 30))));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithSpillToDiskAndManyGroups() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResult().getMetaData();
+        when(metaData.getColumnType(anyInt())).thenReturn(Types.INTEGER);
+        List<MemoryQueryResultDataRow> rows = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.<Object>asList(1, 0, i, 1, i)));
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 200L);
+        MergedResult actual = resultMerger.merge(Arrays.asList(new RawMemoryQueryResult(metaData, rows), new RawMemoryQueryResult(metaData, rows)),
+                createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        for (int i = 99; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(2)));
+            assertThat(actual.getValue(3, Object.class), is(i));
+        }
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithUnsupportedSpillColumnType() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResult().getMetaData();
+        when(metaData.getColumnType(anyInt())).thenReturn(Types.BLOB);
+        QueryResult queryResult1 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(20, 0, 2, 2, 20))));
+        QueryResult queryResult2 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(30, 0, 3, 3, 30))));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithUnsupportedSpillValueAfterSpillToDisk() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResultMetaData metaData = createQueryResult().getMetaData();
+        when(metaData.getColumnType(anyInt())).thenReturn(Types.INTEGER);
+        QueryResult queryResult1 = new RawMemoryQueryResult(metaData, Arrays.asList(
+                new MemoryQueryResultDataRow(Arrays.<Object>asList(20, 0, 2, 2, 20)), new MemoryQueryResultDataRow(Arrays.<Object>asList(20, 0, 2, 2, 20))));
+        QueryResult queryResult2 = new RawMemoryQueryResult(metaData, Collections.singletonList(new MemoryQueryResultDataRow(Arrays.<Object>asList(30, UUID.randomUUID(), 3, 3, 30))));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
     private QueryResult createQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.getMetaData().getColumnCount()).thenReturn(5);
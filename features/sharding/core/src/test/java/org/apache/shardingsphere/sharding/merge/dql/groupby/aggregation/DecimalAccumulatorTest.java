@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DecimalAccumulatorTest {
+    
+    @Test
+    void assertGetResultWithoutValue() {
+        assertNull(new DecimalAccumulator().getResult());
+    }
+    
+    @Test
+    void assertGetResultWithIntegralValues() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(1);
+        accumulator.add(2L);
+        accumulator.add((short) 3);
+        accumulator.add((byte) 4);
+        assertThat(accumulator.getResult(), is(BigDecimal.valueOf(10L)));
+    }
+    
+    @Test
+    void assertGetResultWithZero() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(0);
+        assertThat(accumulator.getResult(), is(BigDecimal.ZERO));
+    }
+    
+    @Test
+    void assertGetResultWithLongOverflow() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(Long.MAX_VALUE);
+        accumulator.add(1L);
+        accumulator.add(1);
+        assertThat(accumulator.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.valueOf(2L))));
+    }
+    
+    @Test
+    void assertGetResultWithLongUnderflow() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(Long.MIN_VALUE);
+        accumulator.add(-1L);
+        assertThat(accumulator.getResult(), is(BigDecimal.valueOf(Long.MIN_VALUE).subtract(BigDecimal.ONE)));
+    }
+    
+    @Test
+    void assertGetResultWithDecimalValues() {
+        DecimalAccumulator accumulator = new DecimalAccumulator();
+        accumulator.add(1);
+        accumulator.add(new BigDecimal("1.5"));
+        accumulator.add(2L);
+        accumulator.add(0.25D);
+        assertThat(accumulator.getResult(), is(new BigDecimal("4.75")));
+    }
+}
@@ -48,6 +48,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -123,6 +124,29 @@ class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForManyResultSets() throws SQLException {
+        List<String> values = Arrays.asList("5", "3", "1", "4", "2");
+        List<QueryResult> queryResults = new ArrayList<>(values.size());
+        for (String each : values) {
+            QueryResult queryResult = mock(QueryResult.class);
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(queryResult.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnName(1)).thenReturn("col1");
+            when(metaData.getColumnName(2)).thenReturn("col2");
+            when(queryResult.next()).thenReturn(true, false);
+            when(queryResult.getValue(1, Object.class)).thenReturn(each);
+            queryResults.add(queryResult);
+        }
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (int i = 1; i <= values.size(); i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class).toString(), is(String.valueOf(i)));
+        }
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertNextForMix() throws SQLException {
         List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
@@ -315,6 +315,26 @@ public final class SelectStatementContext extends CommonSQLStatementContext impl
         return !groupByContext.getItems().isEmpty() && groupByContext.getItems().equals(orderByContext.getItems());
     }
     
+    /**
+     * Judge whether query results are grouped or aggregated when merging, so the order of query results does not matter.
+     *
+     * @return query results are grouped or aggregated when merging or not
+     */
+    public boolean isGroupedOrAggregated() {
+        return !groupByContext.getItems().isEmpty() || !projectionsContext.getAggregationProjections().isEmpty() || projectionsContext.isDistinctRow();
+    }
+    
+    /**
+     * Judge whether the order of query results does not matter when merging.
+     * 
+     * <p>Grouped or aggregated query results are merged regardless of their order, and ordered query results are sorted again by stream merge.</p>
+     *
+     * @return order of query results does not matter when merging or not
+     */
+    public boolean isOrderInsensitiveWhenMerging() {
+        return isGroupedOrAggregated() || !orderByContext.getItems().isEmpty();
+    }
+    
     /**
      * Find column projection.
      * 
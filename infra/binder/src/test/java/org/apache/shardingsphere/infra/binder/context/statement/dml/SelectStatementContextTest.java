@@ -574,6 +574,46 @@ class SelectStatementContextTest {
         assertTrue(selectStatementContext.isContainsPartialDistinctAggregation());
     }
     
+    @Test
+    void assertIsGroupedOrAggregatedWithGroupBy() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.LAST))));
+        assertTrue(createSelectStatementContext(selectStatement).isGroupedOrAggregated());
+    }
+    
+    @Test
+    void assertIsGroupedOrAggregatedWithAggregation() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        selectStatement.setProjections(projectionsSegment);
+        assertTrue(createSelectStatementContext(selectStatement).isGroupedOrAggregated());
+    }
+    
+    @Test
+    void assertIsNotGroupedOrAggregatedWithOrderBy() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.LAST))));
+        assertFalse(createSelectStatementContext(selectStatement).isGroupedOrAggregated());
+    }
+    
+    @Test
+    void assertIsOrderInsensitiveWhenMergingWithOrderBy() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.LAST))));
+        assertTrue(createSelectStatementContext(selectStatement).isOrderInsensitiveWhenMerging());
+    }
+    
+    @Test
+    void assertIsNotOrderInsensitiveWhenMergingWithoutOrderBy() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        assertFalse(createSelectStatementContext(selectStatement).isOrderInsensitiveWhenMerging());
+    }
+    
     private ShardingSphereMetaData createShardingSphereMetaData(final ShardingSphereDatabase database) {
         return new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
                 mock(RuleMetaData.class), mock(ConfigurationProperties.class));
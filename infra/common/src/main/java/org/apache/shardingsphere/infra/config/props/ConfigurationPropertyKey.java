@@ -53,11 +53,26 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL with virtual threads, only available when running on JDK 21 or later. The kernel executor size will be ignored when it is enabled.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max estimated bytes of rows buffered by memory merged result before spilling rows to local disk, less than or equal to 0 means never spill.
+     */
+    MEMORY_MERGE_SPILL_THRESHOLD("memory-merge-spill-threshold", String.valueOf(0), long.class, false),
+    
+    /**
+     * Directory of files spilled by memory merged result, blank means temporary directory of system.
+     */
+    MEMORY_MERGE_SPILL_DIRECTORY("memory-merge-spill-directory", "", String.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -119,6 +134,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_SSL_CIPHER("proxy-frontend-ssl-cipher", "", String.class, true),
     
+    /**
+     * Proxy SQL parser warm up file.
+     */
+    PROXY_SQL_PARSER_WARM_UP_FILE("proxy-sql-parser-warm-up-file", "", String.class, true),
+    
+    /**
+     * Whether enable virtual thread per connection to execute commands for proxy frontend, only available when running on JDK 21 or later.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
+    /**
+     * Whether flush responses of query commands together with commands already received on the same connection for proxy frontend.
+     */
+    PROXY_FRONTEND_PIPELINING_ENABLED("proxy-frontend-pipelining-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Agent plugins enabled.
      */
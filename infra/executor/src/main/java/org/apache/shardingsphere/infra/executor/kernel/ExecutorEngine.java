@@ -25,13 +25,20 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceMan
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Executor engine.
@@ -41,8 +48,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -52,7 +59,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread mode.
+     *
+     * @param executorSize executor size, ignored when virtual thread enabled
+     * @param virtualThreadEnabled whether execute with virtual threads
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -76,6 +94,66 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute in parallel and gather results in completion order.
+     * 
+     * <p>The first execution group is executed in the caller thread as trunk thread, other execution groups are executed asynchronously
+     * and their results are gathered as soon as they finish instead of in submission order, so one slow group never holds up the finished ones.
+     * Only use it when the order of results does not matter.
+     * Remaining execution groups will be cancelled once any of them fails, and their inputs are passed to cancel callback to cancel the executing work.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param cancelCallback callback to cancel inputs of unfinished execution groups
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback,
+                                                   final ExecutorCallback<I, O> callback, final Consumer<Collection<I>> cancelCallback) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return Collections.emptyList();
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        Map<Future<Collection<O>>, ExecutionGroup<I>> unfinishedGroups = new HashMap<>(executionGroupContext.getInputGroups().size(), 1F);
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            unfinishedGroups.put(completionService.submit(() -> callback.execute(each.getInputs(), false)), each);
+        }
+        try {
+            List<O> result = new ArrayList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+            while (!unfinishedGroups.isEmpty()) {
+                Future<Collection<O>> finished = completionService.take();
+                unfinishedGroups.remove(finished);
+                result.addAll(finished.get());
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel(unfinishedGroups, cancelCallback);
+            throw ex;
+        } catch (final InterruptedException ex) {
+            cancel(unfinishedGroups, cancelCallback);
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            cancel(unfinishedGroups, cancelCallback);
+            return throwException(ex);
+        }
+    }
+    
+    private <I, O> void cancel(final Map<Future<Collection<O>>, ExecutionGroup<I>> unfinishedGroups, final Consumer<Collection<I>> cancelCallback) {
+        for (Entry<Future<Collection<O>>, ExecutionGroup<I>> entry : unfinishedGroups.entrySet()) {
+            entry.getKey().cancel(true);
+            cancelCallback.accept(entry.getValue().getInputs());
+        }
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -96,7 +174,7 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+        Collection<Future<Collection<O>>> result = new ArrayList<>();
         while (executionGroups.hasNext()) {
             result.add(asyncExecute(executionGroups.next(), callback));
         }
@@ -21,6 +21,8 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -40,4 +42,20 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name prefix.
+     *
+     * @param namePrefix thread name prefix, thread names are suffixed by a counter
+     * @return virtual thread factory, empty if virtual thread is not supported by current JVM
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String namePrefix) {
+        try {
+            Class<?> threadBuilderClass = Class.forName("java.lang.Thread$Builder");
+            Object threadBuilder = threadBuilderClass.getMethod("name", String.class, long.class).invoke(Thread.class.getMethod("ofVirtual").invoke(null), NAME_FORMAT_PREFIX + namePrefix, 0L);
+            return Optional.of((ThreadFactory) threadBuilderClass.getMethod("factory").invoke(threadBuilder));
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            return Optional.empty();
+        }
+    }
 }
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,6 +33,7 @@ import java.util.List;
  * JDBC executor.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class JDBCExecutor {
     
     private final ExecutorEngine executorEngine;
@@ -70,4 +73,40 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and gather results in completion order.
+     *
+     * <p>Falls back to {@link #execute(ExecutionGroupContext, JDBCExecutorCallback, JDBCExecutorCallback)} in transaction.
+     * Statements of unfinished execution units are cancelled once any execution unit fails.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        if (connectionContext.getTransactionContext().isInTransaction()) {
+            return execute(executionGroupContext, firstCallback, callback);
+        }
+        try {
+            return executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, this::cancel);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
+    
+    private void cancel(final Collection<JDBCExecutionUnit> executionUnits) {
+        for (JDBCExecutionUnit each : executionUnits) {
+            try {
+                each.getStorageResource().cancel();
+            } catch (final SQLException ex) {
+                log.warn("Cancel statement of unfinished execution unit on data source `{}` failed.", each.getExecutionUnit().getDataSourceName(), ex);
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query;
 
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -47,6 +48,39 @@ public interface QueryResult extends ExecuteResult, AutoCloseable {
      */
     Object getValue(int columnIndex, Class<?> type) throws SQLException;
     
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, {@code 0} if value is null
+     * @throws SQLException SQL exception
+     */
+    default int getInt(final int columnIndex) throws SQLException {
+        return (int) ResultSetUtils.convertValue(getValue(columnIndex, int.class), int.class);
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, {@code 0} if value is null
+     * @throws SQLException SQL exception
+     */
+    default long getLong(final int columnIndex) throws SQLException {
+        return (long) ResultSetUtils.convertValue(getValue(columnIndex, long.class), long.class);
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, {@code 0} if value is null
+     * @throws SQLException SQL exception
+     */
+    default double getDouble(final int columnIndex) throws SQLException {
+        return (double) ResultSetUtils.convertValue(getValue(columnIndex, double.class), double.class);
+    }
+    
     /**
      * Get calendar value.
      *
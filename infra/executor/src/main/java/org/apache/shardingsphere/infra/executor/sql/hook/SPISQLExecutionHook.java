@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.hook;
 
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 
 import java.util.Collection;
@@ -37,6 +38,14 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
         }
     }
     
+    @Override
+    public void start(final RuleMetaData ruleMetaData, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps,
+                      final boolean isTrunkThread) {
+        for (SQLExecutionHook each : sqlExecutionHooks) {
+            each.start(ruleMetaData, dataSourceName, sql, params, connectionProps, isTrunkThread);
+        }
+    }
+    
     @Override
     public void finishSuccess() {
         for (SQLExecutionHook each : sqlExecutionHooks) {
@@ -26,13 +26,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +96,84 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback, inputs -> {
+        });
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFirstCallbackInCallerThread() throws SQLException {
+        Thread callerThread = Thread.currentThread();
+        Collection<Boolean> actual = executorEngine.executeInCompletionOrder(executionGroupContext,
+                (inputs, isTrunkThread) -> Collections.singletonList(isTrunkThread && callerThread == Thread.currentThread()),
+                (inputs, isTrunkThread) -> Collections.singletonList(!isTrunkThread && callerThread != Thread.currentThread()), inputs -> {
+                });
+        assertThat(actual, is(Arrays.asList(true, true)));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithSlowerGroupFinishedLater() throws SQLException {
+        ExecutionGroupContext<Object> groupContext = createMockedExecutionGroups(3, 1);
+        Iterator<ExecutionGroup<Object>> executionGroups = groupContext.getInputGroups().iterator();
+        executionGroups.next();
+        List<Object> slowerInputs = executionGroups.next().getInputs();
+        CountDownLatch fasterResultConsumedLatch = new CountDownLatch(1);
+        List<String> actual = executorEngine.executeInCompletionOrder(groupContext, (inputs, isTrunkThread) -> Collections.singletonList("first"), (inputs, isTrunkThread) -> {
+            if (slowerInputs != inputs) {
+                return new ConsumptionAwareResults("faster", fasterResultConsumedLatch);
+            }
+            awaitConsumption(fasterResultConsumedLatch);
+            return Collections.singletonList("slower");
+        }, inputs -> {
+        });
+        assertThat(actual, is(Arrays.asList("first", "faster", "slower")));
+    }
+    
+    private void awaitConsumption(final CountDownLatch consumedLatch) {
+        try {
+            consumedLatch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFailure() {
+        Collection<Collection<Object>> cancelledInputs = new ConcurrentLinkedQueue<>();
+        assertThrows(SQLException.class, () -> executorEngine.executeInCompletionOrder(executionGroupContext, (inputs, isTrunkThread) -> {
+            throw new SQLException("test");
+        }, (inputs, isTrunkThread) -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(1000000L);
+            }
+            return Collections.emptyList();
+        }, cancelledInputs::add));
+        assertThat(cancelledInputs.size(), is(1));
+        Iterator<ExecutionGroup<Object>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        executionGroups.next();
+        assertThat(cancelledInputs.iterator().next(), is(executionGroups.next().getInputs()));
+    }
+    
+    private static final class ConsumptionAwareResults extends ArrayList<String> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final transient CountDownLatch consumedLatch;
+        
+        ConsumptionAwareResults(final String result, final CountDownLatch consumedLatch) {
+            super(Collections.singletonList(result));
+            this.consumedLatch = consumedLatch;
+        }
+        
+        // ArrayList.addAll reads the added results by toArray when gathering them
+        @Override
+        public Object[] toArray() {
+            consumedLatch.countDown();
+            return super.toArray();
+        }
+    }
 }
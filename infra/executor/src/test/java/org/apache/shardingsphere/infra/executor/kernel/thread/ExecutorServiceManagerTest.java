@@ -50,6 +50,18 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    void assertThreadLocalValueTransmittedWithVirtualThreadEnabled() {
+        AtomicBoolean finished = new AtomicBoolean(false);
+        ExecutorService executorService = new ExecutorServiceManager(0, true).getExecutorService();
+        TRANSMITTABLE_THREAD_LOCAL.set("foo");
+        executorService.submit(() -> {
+            assertThat(TRANSMITTABLE_THREAD_LOCAL.get(), is("foo"));
+            finished.set(true);
+        });
+        assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
+    }
+    
     private void assertFinished(final AtomicBoolean finished) {
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).pollInterval(100L, TimeUnit.MILLISECONDS).until(finished::get);
     }
@@ -18,11 +18,17 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExecutorThreadFactoryBuilderTest {
     
@@ -33,4 +39,21 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    @DisabledForJreRange(max = JRE.JAVA_20)
+    void assertBuildVirtualWithNamePrefix() throws ReflectiveOperationException {
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual("test-");
+        assertTrue(threadFactory.isPresent());
+        Thread thread = threadFactory.get().newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+        assertTrue((boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertBuildVirtualWithUnsupportedJVM() {
+        assertFalse(ExecutorThreadFactoryBuilder.buildVirtual("test-").isPresent());
+    }
 }
@@ -21,15 +21,20 @@ import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -37,6 +42,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JDBCExecutorTest {
@@ -54,6 +61,45 @@ class JDBCExecutorTest {
         assertThat(actual2, is(Collections.singletonList("test")));
     }
     
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroup<JDBCExecutionUnit> group = new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class)));
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.singletonList(group), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeInCompletionOrder(any(), any(), any(), any())).thenReturn(Collections.singletonList("test"));
+        List<?> actual = new JDBCExecutor(executorEngine, new ConnectionContext()).executeInCompletionOrder(context, null, null);
+        assertThat(actual, is(Collections.singletonList("test")));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithStreamingExecutionUnit() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        JDBCExecutionUnit executionUnit = mock(JDBCExecutionUnit.class);
+        when(executionUnit.getConnectionMode()).thenReturn(ConnectionMode.MEMORY_STRICTLY);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(
+                Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(executionUnit))), mock(ExecutionGroupReportContext.class));
+        when(executorEngine.executeInCompletionOrder(any(), any(), any(), any())).thenReturn(Collections.singletonList("test"));
+        List<?> actual = new JDBCExecutor(executorEngine, new ConnectionContext()).executeInCompletionOrder(context, null, null);
+        assertThat(actual, is(Collections.singletonList("test")));
+        verify(executorEngine, never()).execute(any(), any(), any(), anyBoolean());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertCancelUnfinishedExecutionUnits() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        JDBCExecutionUnit executionUnit = mock(JDBCExecutionUnit.class);
+        Statement statement = mock(Statement.class);
+        when(executionUnit.getStorageResource()).thenReturn(statement);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(
+                Collections.singletonList(new ExecutionGroup<>(Collections.singletonList(executionUnit))), mock(ExecutionGroupReportContext.class));
+        new JDBCExecutor(executorEngine, new ConnectionContext()).executeInCompletionOrder(context, null, null);
+        ArgumentCaptor<Consumer<Collection<JDBCExecutionUnit>>> cancelCallback = ArgumentCaptor.forClass(Consumer.class);
+        verify(executorEngine).executeInCompletionOrder(any(), any(), any(), cancelCallback.capture());
+        cancelCallback.getValue().accept(Collections.singletonList(executionUnit));
+        verify(statement).cancel();
+    }
+    
     @Test
     void assertExecuteSQLException() {
         try {
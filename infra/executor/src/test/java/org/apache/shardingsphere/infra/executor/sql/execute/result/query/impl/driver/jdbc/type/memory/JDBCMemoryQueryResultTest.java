@@ -197,6 +197,53 @@ class JDBCMemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertGetIntByUnsignedInteger() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.INTEGER);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(false);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getInt(1), is(1));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetLongBySmallInt() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.SMALLINT);
+        when(resultSet.getInt(1)).thenReturn(1);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getLong(1), is(1L));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetDoubleByDecimal() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.DECIMAL);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1.5"));
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getDouble(1), is(1.5D));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertGetPrimitiveValuesByNull() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.wasNull()).thenReturn(true);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
+        JDBCMemoryQueryResult actual = new JDBCMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getInt(1), is(0));
+        assertThat(actual.getLong(1), is(0L));
+        assertThat(actual.getDouble(1), is(0.0D));
+        assertFalse(actual.next());
+    }
+    
     @Test
     void assertGetValueByChar() throws SQLException {
         ResultSet resultSet = getMockedResultSet(Types.CHAR);
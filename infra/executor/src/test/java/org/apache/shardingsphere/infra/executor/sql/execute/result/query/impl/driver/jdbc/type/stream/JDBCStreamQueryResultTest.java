@@ -98,6 +98,27 @@ class JDBCStreamQueryResultTest {
         assertThat(new JDBCStreamQueryResult(resultSet).getValue(1, double.class), is(1.0D));
     }
     
+    @Test
+    void assertGetInt() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(1);
+        assertThat(new JDBCStreamQueryResult(resultSet).getInt(1), is(1));
+    }
+    
+    @Test
+    void assertGetLong() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L);
+        assertThat(new JDBCStreamQueryResult(resultSet).getLong(1), is(1L));
+    }
+    
+    @Test
+    void assertGetDouble() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getDouble(1)).thenReturn(1.0D);
+        assertThat(new JDBCStreamQueryResult(resultSet).getDouble(1), is(1.0D));
+    }
+    
     @Test
     void assertGetValueByString() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
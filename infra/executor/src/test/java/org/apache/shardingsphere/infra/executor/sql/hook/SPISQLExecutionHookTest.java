@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.hook;
 
 import org.apache.shardingsphere.infra.executor.sql.hook.fixture.SQLExecutionHookFixture;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +42,12 @@ class SPISQLExecutionHookTest {
         assertTrue(SQLExecutionHookFixture.containsAction("start"));
     }
     
+    @Test
+    void assertStartWithRuleMetaData() {
+        spiSQLExecutionHook.start(new RuleMetaData(Collections.emptyList()), "ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertTrue(SQLExecutionHookFixture.containsAction("start"));
+    }
+    
     @Test
     void assertFinishSuccess() {
         spiSQLExecutionHook.finishSuccess();
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.merge.result;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.util.ResultSetUtils;
+
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
@@ -45,6 +47,39 @@ public interface MergedResult {
      */
     Object getValue(int columnIndex, Class<?> type) throws SQLException;
     
+    /**
+     * Get int value.
+     *
+     * @param columnIndex column index
+     * @return int value, {@code 0} if value is null
+     * @throws SQLException SQL exception
+     */
+    default int getInt(final int columnIndex) throws SQLException {
+        return (int) ResultSetUtils.convertValue(getValue(columnIndex, int.class), int.class);
+    }
+    
+    /**
+     * Get long value.
+     *
+     * @param columnIndex column index
+     * @return long value, {@code 0} if value is null
+     * @throws SQLException SQL exception
+     */
+    default long getLong(final int columnIndex) throws SQLException {
+        return (long) ResultSetUtils.convertValue(getValue(columnIndex, long.class), long.class);
+    }
+    
+    /**
+     * Get double value.
+     *
+     * @param columnIndex column index
+     * @return double value, {@code 0} if value is null
+     * @throws SQLException SQL exception
+     */
+    default double getDouble(final int columnIndex) throws SQLException {
+        return (double) ResultSetUtils.convertValue(getValue(columnIndex, double.class), double.class);
+    }
+    
     /**
      * Get calendar value.
      *
@@ -82,4 +117,12 @@ public interface MergedResult {
      * @throws SQLException SQL exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held by it, such as spill files.
+     *
+     * @throws SQLException SQL exception
+     */
+    default void close() throws SQLException {
+    }
 }
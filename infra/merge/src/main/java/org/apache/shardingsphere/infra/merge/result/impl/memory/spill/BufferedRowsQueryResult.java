@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.util.List;
+
+/**
+ * Query result which reads rows buffered in memory, rows are released once they are read.
+ */
+public final class BufferedRowsQueryResult extends AbstractRowArrayQueryResult {
+    
+    private final List<Object[]> rows;
+    
+    private int rowIndex;
+    
+    public BufferedRowsQueryResult(final QueryResultMetaData metaData, final List<Object[]> rows) {
+        super(metaData);
+        this.rows = rows;
+    }
+    
+    @Override
+    protected Object[] nextRow() {
+        if (rowIndex >= rows.size()) {
+            return null;
+        }
+        return rows.set(rowIndex++, null);
+    }
+    
+    @Override
+    public void close() {
+        rows.clear();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Strings;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Spill file, which holds rows of memory merged result on local disk.
+ */
+public final class SpillFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-merge-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    @Getter
+    private final Path path;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    @Getter
+    private long estimatedSize;
+    
+    private int readRowCount;
+    
+    public SpillFile() {
+        this("");
+    }
+    
+    @SneakyThrows(IOException.class)
+    public SpillFile(final String directory) {
+        path = Strings.isNullOrEmpty(directory) ? Files.createTempFile(FILE_PREFIX, FILE_SUFFIX) : Files.createTempFile(Files.createDirectories(Paths.get(directory)), FILE_PREFIX, FILE_SUFFIX);
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            Files.deleteIfExists(path);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row to be written
+     */
+    @SneakyThrows(IOException.class)
+    public void write(final Object[] row) {
+        SpillRowCodec.write(output, row);
+        rowCount++;
+        estimatedSize += SpillRowCodec.estimateSize(row);
+    }
+    
+    /**
+     * Read next row, the file will not be writable after first read.
+     * 
+     * @return next row, null if no more rows
+     */
+    @SneakyThrows(IOException.class)
+    public Object[] read() {
+        if (null != output) {
+            output.close();
+            output = null;
+            input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        }
+        if (readRowCount >= rowCount) {
+            return null;
+        }
+        readRowCount++;
+        return SpillRowCodec.read(input);
+    }
+    
+    @SneakyThrows(IOException.class)
+    @Override
+    public void close() {
+        try {
+            if (null != output) {
+                output.close();
+                output = null;
+            }
+            if (null != input) {
+                input.close();
+                input = null;
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+/**
+ * Query result which reads rows from spill file.
+ */
+public final class SpillFileQueryResult extends AbstractRowArrayQueryResult {
+    
+    private final SpillFile spillFile;
+    
+    public SpillFileQueryResult(final QueryResultMetaData metaData, final SpillFile spillFile) {
+        super(metaData);
+        this.spillFile = spillFile;
+    }
+    
+    @Override
+    protected Object[] nextRow() {
+        return spillFile.read();
+    }
+    
+    @Override
+    public void close() {
+        spillFile.close();
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.math.BigDecimal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
@@ -62,6 +63,32 @@ class MemoryMergedResultTest {
         assertThat(memoryMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    void assertGetIntWithShortValue() throws SQLException {
+        when(memoryResultSetRow.getCell(1)).thenReturn((short) 1);
+        assertThat(memoryMergedResult.getInt(1), is(1));
+    }
+    
+    @Test
+    void assertGetLongWithIntegerValue() throws SQLException {
+        when(memoryResultSetRow.getCell(1)).thenReturn(1);
+        assertThat(memoryMergedResult.getLong(1), is(1L));
+    }
+    
+    @Test
+    void assertGetDoubleWithBigDecimalValue() throws SQLException {
+        when(memoryResultSetRow.getCell(1)).thenReturn(new BigDecimal("1.5"));
+        assertThat(memoryMergedResult.getDouble(1), is(1.5D));
+    }
+    
+    @Test
+    void assertGetPrimitiveValuesWithNullValue() throws SQLException {
+        assertThat(memoryMergedResult.getInt(1), is(0));
+        assertThat(memoryMergedResult.getLong(1), is(0L));
+        assertThat(memoryMergedResult.getDouble(1), is(0.0D));
+        assertTrue(memoryMergedResult.wasNull());
+    }
+    
     @Test
     void assertGetValueForBlob() {
         assertThrows(SQLFeatureNotSupportedException.class, () -> memoryMergedResult.getValue(1, Blob.class));
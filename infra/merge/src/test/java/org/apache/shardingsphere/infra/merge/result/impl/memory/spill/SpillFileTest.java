@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillFileTest {
+    
+    @Test
+    void assertWriteAndRead() {
+        try (SpillFile spillFile = new SpillFile()) {
+            spillFile.write(new Object[]{1, "foo"});
+            spillFile.write(new Object[]{2, null});
+            assertThat(spillFile.getRowCount(), is(2));
+            assertThat(spillFile.getEstimatedSize(), is(SpillRowCodec.estimateSize(new Object[]{1, "foo"}) + SpillRowCodec.estimateSize(new Object[]{2, null})));
+            assertThat(spillFile.read(), is(new Object[]{1, "foo"}));
+            assertThat(spillFile.read(), is(new Object[]{2, null}));
+            assertNull(spillFile.read());
+        }
+    }
+    
+    @Test
+    void assertCreateInDirectory(@TempDir final Path tempDir) {
+        Path directory = tempDir.resolve("spill");
+        try (SpillFile spillFile = new SpillFile(directory.toString())) {
+            assertThat(spillFile.getPath().getParent(), is(directory));
+            assertTrue(Files.exists(spillFile.getPath()));
+        }
+    }
+    
+    @Test
+    void assertCloseBeforeRead() {
+        SpillFile spillFile = new SpillFile();
+        spillFile.write(new Object[]{1, "foo"});
+        assertTrue(Files.exists(spillFile.getPath()));
+        spillFile.close();
+        assertFalse(Files.exists(spillFile.getPath()));
+        spillFile.close();
+    }
+    
+    @Test
+    void assertCloseAfterPartiallyRead() {
+        SpillFile spillFile = new SpillFile();
+        spillFile.write(new Object[]{1, "foo"});
+        spillFile.write(new Object[]{2, "bar"});
+        assertThat(spillFile.read(), is(new Object[]{1, "foo"}));
+        spillFile.close();
+        assertFalse(Files.exists(spillFile.getPath()));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillRowCodecTest {
+    
+    @Test
+    void assertIsSupported() throws SQLException {
+        assertTrue(SpillRowCodec.isSupported(mockMetaData(Types.INTEGER, Types.VARCHAR, Types.TIMESTAMP)));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithLargeObject() throws SQLException {
+        assertFalse(SpillRowCodec.isSupported(mockMetaData(Types.INTEGER, Types.BLOB)));
+        assertFalse(SpillRowCodec.isSupported(mockMetaData(Types.CLOB)));
+        assertFalse(SpillRowCodec.isSupported(mockMetaData(Types.ARRAY)));
+        assertFalse(SpillRowCodec.isSupported(mockMetaData(Types.OTHER)));
+    }
+    
+    @Test
+    void assertIsSupportedRow() {
+        assertTrue(SpillRowCodec.isSupported(new Object[]{null, 1, "foo", new BigDecimal("1.5"), new Timestamp(0L), LocalDateTime.of(2023, 11, 15, 0, 0)}));
+    }
+    
+    @Test
+    void assertIsNotSupportedRow() {
+        assertFalse(SpillRowCodec.isSupported(new Object[]{1, OffsetDateTime.now()}));
+        assertFalse(SpillRowCodec.isSupported(new Object[]{UUID.randomUUID()}));
+        assertFalse(SpillRowCodec.isSupported(new Object[]{new int[]{1}}));
+        assertFalse(SpillRowCodec.isSupported(new Object[]{new Timestamp(0L) {
+            
+            private static final long serialVersionUID = 1L;
+        }}));
+    }
+    
+    private QueryResultMetaData mockMetaData(final int... columnTypes) throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(result.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+        }
+        return result;
+    }
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        Object[] row = {null, "foo_中文", 1, 2L, (short) 3, (byte) 4, 5.5F, 6.5D, true, new BigDecimal("-12345.6789"), new BigInteger("123456789012345678901234567890"),
+                new Date(1700000000000L), new Time(3600000L), timestamp, new java.util.Date(1700000000000L), new byte[]{1, 0, -1},
+                LocalDate.of(2023, 11, 15), LocalTime.of(23, 59, 59, 999999999), LocalDateTime.of(2023, 11, 15, 23, 59, 59, 1)};
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SpillRowCodec.write(new DataOutputStream(output), row);
+        Object[] actual = SpillRowCodec.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+        assertThat(actual, is(row));
+        assertThat(((Timestamp) actual[13]).getNanos(), is(123456789));
+        assertThat(((BigDecimal) actual[9]).scale(), is(4));
+    }
+    
+    @Test
+    void assertEstimateSize() {
+        assertThat(SpillRowCodec.estimateSize(new Object[]{null, 1, "foo", new byte[]{1, 2}}), is(16L + 8L * 4 + 24L + 38L + 18L));
+    }
+    
+    @Test
+    void assertEstimateSizeGrowsWithValueLength() {
+        assertTrue(SpillRowCodec.estimateSize(new Object[]{"foo_bar"}) > SpillRowCodec.estimateSize(new Object[]{"foo"}));
+    }
+    
+    @Test
+    void assertWriteUnsupportedValue() {
+        assertThrows(NotSerializableException.class, () -> SpillRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{new Object()}));
+    }
+}
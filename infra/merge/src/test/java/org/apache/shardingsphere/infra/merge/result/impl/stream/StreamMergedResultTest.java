@@ -30,6 +30,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -50,6 +51,16 @@ class StreamMergedResultTest {
         assertThat(streamMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    void assertGetInt() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getInt(1)).thenReturn(0);
+        when(queryResult.wasNull()).thenReturn(true);
+        streamMergedResult.setCurrentQueryResult(queryResult);
+        assertThat(streamMergedResult.getInt(1), is(0));
+        assertTrue(streamMergedResult.wasNull());
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class);
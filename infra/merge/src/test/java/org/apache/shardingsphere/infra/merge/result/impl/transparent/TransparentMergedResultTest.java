@@ -51,6 +51,14 @@ class TransparentMergedResultTest {
         assertThat(actual.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    void assertGetLong() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getLong(1)).thenReturn(1L);
+        TransparentMergedResult actual = new TransparentMergedResult(queryResult);
+        assertThat(actual.getLong(1), is(1L));
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class);
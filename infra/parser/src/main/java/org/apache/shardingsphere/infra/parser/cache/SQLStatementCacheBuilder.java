@@ -43,6 +43,6 @@ public final class SQLStatementCacheBuilder {
     public static LoadingCache<String, SQLStatement> build(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
                                                            final CacheOption parseTreeCacheOption, final boolean isParseComment) {
         return Caffeine.newBuilder().softValues().initialCapacity(sqlStatementCacheOption.getInitialCapacity()).maximumSize(sqlStatementCacheOption.getMaximumSize())
-                .build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
+                .recordStats().build(new SQLStatementCacheLoader(databaseType, parseTreeCacheOption, isParseComment));
     }
 }
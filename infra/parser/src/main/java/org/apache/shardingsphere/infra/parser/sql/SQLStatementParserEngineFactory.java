@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -54,4 +55,13 @@ public final class SQLStatementParserEngineFactory {
         }
         return result;
     }
+    
+    /**
+     * Get SQL statement parser engines of all database types.
+     *
+     * @return database type and SQL statement parser engine map
+     */
+    public static Map<DatabaseType, SQLStatementParserEngine> getAllSQLStatementParserEngines() {
+        return Collections.unmodifiableMap(ENGINES);
+    }
 }
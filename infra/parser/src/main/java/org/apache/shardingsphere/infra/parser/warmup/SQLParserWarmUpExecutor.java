@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+
+import java.util.Collection;
+
+/**
+ * SQL parser warm up executor.
+ */
+@RequiredArgsConstructor
+public final class SQLParserWarmUpExecutor {
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    /**
+     * Warm up SQL parser by parsing SQLs with cache.
+     *
+     * @param sqls SQLs to be parsed
+     * @return SQL parser warm up result
+     */
+    public SQLParserWarmUpResult warmUp(final Collection<String> sqls) {
+        long startTimeMillis = System.currentTimeMillis();
+        int parsedCount = 0;
+        for (String each : sqls) {
+            try {
+                sqlParserEngine.parse(each, true);
+                parsedCount++;
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ignored) {
+                // CHECKSTYLE:ON
+            }
+        }
+        return new SQLParserWarmUpResult(sqls.size(), parsedCount, System.currentTimeMillis() - startTimeMillis);
+    }
+}
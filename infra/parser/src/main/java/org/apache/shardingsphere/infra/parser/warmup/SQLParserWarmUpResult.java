@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.warmup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SQL parser warm up result.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLParserWarmUpResult {
+    
+    private final int totalCount;
+    
+    private final int parsedCount;
+    
+    private final long elapsedMillis;
+    
+    /**
+     * Get coverage of parsed SQLs.
+     *
+     * @return coverage, between 0 and 1
+     */
+    public double getCoverage() {
+        return 0 == totalCount ? 1D : (double) parsedCount / totalCount;
+    }
+}
@@ -21,10 +21,13 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
 
 class SQLStatementCacheBuilderTest {
     
@@ -32,4 +35,15 @@ class SQLStatementCacheBuilderTest {
     void assertBuild() {
         assertThat(SQLStatementCacheBuilder.build(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false), isA(LoadingCache.class));
     }
+    
+    @Test
+    void assertBuildWithStats() {
+        LoadingCache<String, SQLStatement> actual = SQLStatementCacheBuilder.build(
+                TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(2000, 65535L), new CacheOption(128, 1024L), false);
+        actual.put("SELECT 1", mock(SQLStatement.class));
+        actual.getIfPresent("SELECT 1");
+        actual.getIfPresent("SELECT 2");
+        assertThat(actual.stats().hitCount(), is(1L));
+        assertThat(actual.stats().missCount(), is(1L));
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.warmup;
+
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLParserWarmUpExecutorTest {
+    
+    @Test
+    void assertWarmUp() {
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserEngine.parse("invalid sql", true)).thenThrow(new SQLParsingException("invalid sql"));
+        SQLParserWarmUpResult actual = new SQLParserWarmUpExecutor(sqlParserEngine).warmUp(Arrays.asList("SELECT 1", "SELECT 2", "invalid sql", "SELECT 3"));
+        assertThat(actual.getTotalCount(), is(4));
+        assertThat(actual.getParsedCount(), is(3));
+        assertThat(actual.getCoverage(), is(0.75D));
+        verify(sqlParserEngine).parse("SELECT 1", true);
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.driver.executor.callback.ExecuteQueryCallback;
 import org.apache.shardingsphere.infra.instance.mode.ModeContextManager;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.connection.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -73,12 +74,18 @@ public final class DriverJDBCExecutor {
                                           final QueryContext queryContext, final ExecuteQueryCallback callback) throws SQLException {
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
-            return jdbcExecutor.execute(executionGroupContext, callback);
+            return isOrderInsensitive(queryContext.getSqlStatementContext())
+                    ? jdbcExecutor.executeInCompletionOrder(executionGroupContext, null, callback)
+                    : jdbcExecutor.execute(executionGroupContext, callback);
         } finally {
             processEngine.completeSQLExecution();
         }
     }
     
+    private boolean isOrderInsensitive(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isOrderInsensitiveWhenMerging();
+    }
+    
     /**
      * Execute update.
      *
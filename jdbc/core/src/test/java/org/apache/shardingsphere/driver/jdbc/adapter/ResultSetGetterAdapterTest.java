@@ -93,28 +93,28 @@ class ResultSetGetterAdapterTest {
     @Test
     void assertGetIntForColumnIndex() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, int.class)).thenReturn(10);
+        when(mergedResult.getInt(1)).thenReturn(10);
         assertThat(mockShardingSphereResultSet(mergedResult).getInt(1), is(10));
     }
     
     @Test
     void assertGetIntForColumnLabel() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, int.class)).thenReturn(10);
+        when(mergedResult.getInt(1)).thenReturn(10);
         assertThat(mockShardingSphereResultSet(mergedResult).getInt("col"), is(10));
     }
     
     @Test
     void assertGetLongForColumnIndex() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, long.class)).thenReturn(10L);
+        when(mergedResult.getLong(1)).thenReturn(10L);
         assertThat(mockShardingSphereResultSet(mergedResult).getLong(1), is(10L));
     }
     
     @Test
     void assertGetLongForColumnLabel() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, long.class)).thenReturn(10L);
+        when(mergedResult.getLong(1)).thenReturn(10L);
         assertThat(mockShardingSphereResultSet(mergedResult).getLong("col"), is(10L));
     }
     
@@ -135,14 +135,14 @@ class ResultSetGetterAdapterTest {
     @Test
     void assertGetDoubleForColumnIndex() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, double.class)).thenReturn(10.0D);
+        when(mergedResult.getDouble(1)).thenReturn(10.0D);
         assertThat(mockShardingSphereResultSet(mergedResult).getDouble(1), is(10.0D));
     }
     
     @Test
     void assertGetDoubleForColumnLabel() throws SQLException {
         MergedResult mergedResult = mock(MergedResult.class);
-        when(mergedResult.getValue(1, double.class)).thenReturn(10.0D);
+        when(mergedResult.getDouble(1)).thenReturn(10.0D);
         assertThat(mockShardingSphereResultSet(mergedResult).getDouble("col"), is(10.0D));
     }
     
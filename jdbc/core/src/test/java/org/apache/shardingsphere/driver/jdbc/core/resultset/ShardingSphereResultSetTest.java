@@ -157,25 +157,25 @@ class ShardingSphereResultSetTest {
     
     @Test
     void assertGetIntWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, int.class)).thenReturn(1);
+        when(mergeResultSet.getInt(1)).thenReturn(1);
         assertThat(shardingSphereResultSet.getInt(1), is(1));
     }
     
     @Test
     void assertGetIntWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue(1, int.class)).thenReturn((short) 1);
+        when(mergeResultSet.getInt(1)).thenReturn(1);
         assertThat(shardingSphereResultSet.getInt("label"), is(1));
     }
     
     @Test
     void assertGetLongWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, long.class)).thenReturn(1L);
+        when(mergeResultSet.getLong(1)).thenReturn(1L);
         assertThat(shardingSphereResultSet.getLong(1), is(1L));
     }
     
     @Test
     void assertGetLongWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue(1, long.class)).thenReturn(1L);
+        when(mergeResultSet.getLong(1)).thenReturn(1L);
         assertThat(shardingSphereResultSet.getLong("label"), is(1L));
     }
     
@@ -193,13 +193,13 @@ class ShardingSphereResultSetTest {
     
     @Test
     void assertGetDoubleWithColumnIndex() throws SQLException {
-        when(mergeResultSet.getValue(1, double.class)).thenReturn(1.0D);
+        when(mergeResultSet.getDouble(1)).thenReturn(1.0D);
         assertThat(shardingSphereResultSet.getDouble(1), is(1.0D));
     }
     
     @Test
     void assertGetDoubleWithColumnLabel() throws SQLException {
-        when(mergeResultSet.getValue(1, double.class)).thenReturn(1.0D);
+        when(mergeResultSet.getDouble(1)).thenReturn(1.0D);
         assertThat(shardingSphereResultSet.getDouble("label"), is(1.0D));
     }
     
@@ -25,7 +25,6 @@ import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -43,7 +42,7 @@ public final class DataRecord extends Record {
     
     private final List<Column> columns;
     
-    private final List<Object> uniqueKeyValue = new LinkedList<>();
+    private final List<Object> uniqueKeyValue = new ArrayList<>();
     
     private final List<Object> oldUniqueKeyValues = new ArrayList<>();
     
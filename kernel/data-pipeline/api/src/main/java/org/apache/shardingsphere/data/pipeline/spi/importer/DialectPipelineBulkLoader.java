@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.spi.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Dialect pipeline bulk loader, load inventory data through database native bulk load path.
+ */
+@SingletonSPI
+public interface DialectPipelineBulkLoader extends DatabaseTypedSPI {
+    
+    /**
+     * Load insert data records of the same table in bulk.
+     *
+     * @param statement statement created by caller, it could be cancelled by {@link #cancel(Statement)} while loading
+     * @param qualifiedTableName qualified table name
+     * @param dataRecords insert data records
+     * @return data records which are not loaded as they are, such as already existed ones, and should be written by batch insert again
+     * @throws SQLException SQL exception
+     */
+    List<DataRecord> load(Statement statement, String qualifiedTableName, List<DataRecord> dataRecords) throws SQLException;
+    
+    /**
+     * Judge whether bulk load is unsupported by target data source, bulk load will not be tried again if it's unsupported.
+     *
+     * @param ex SQL exception thrown by bulk load
+     * @return unsupported or not
+     */
+    default boolean isUnsupported(final SQLException ex) {
+        return ex instanceof SQLFeatureNotSupportedException;
+    }
+    
+    /**
+     * Cancel bulk load which is executing on statement.
+     *
+     * @param statement statement passed to {@link #load(Statement, String, List)}
+     * @throws SQLException SQL exception
+     */
+    default void cancel(final Statement statement) throws SQLException {
+        statement.cancel();
+    }
+}
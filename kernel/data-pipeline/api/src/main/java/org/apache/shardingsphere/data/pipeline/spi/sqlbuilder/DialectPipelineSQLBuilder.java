@@ -75,4 +75,29 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
     default Optional<String> buildCRC32SQL(String qualifiedTableName, final String columnName) {
         return Optional.empty();
     }
+    
+    /**
+     * Build CRC32 SQL of records which match condition.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnName column name
+     * @param condition condition of where clause
+     * @return built SQL
+     */
+    default Optional<String> buildCRC32SQL(String qualifiedTableName, String columnName, String condition) {
+        return Optional.empty();
+    }
+    
+    /**
+     * Build unique key upper boundary SQL, which gets maximum unique key value of next chunk in ascending order of unique key.
+     * Parameters of built SQL are parameters of condition and chunk size.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param uniqueKey escaped unique key
+     * @param condition condition of where clause
+     * @return built SQL, empty if unique key upper boundary is not supported
+     */
+    default Optional<String> buildUniqueKeyUpperBoundarySQL(String qualifiedTableName, String uniqueKey, String condition) {
+        return Optional.of(String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s ORDER BY %s ASC LIMIT ?) boundary", uniqueKey, uniqueKey, qualifiedTableName, condition, uniqueKey));
+    }
 }
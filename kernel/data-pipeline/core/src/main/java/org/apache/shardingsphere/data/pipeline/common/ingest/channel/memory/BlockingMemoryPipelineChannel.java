@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blocking memory pipeline channel.
+ *
+ * <p>Consumers wait on condition instead of sleeping when channel is empty, and producers are blocked by buffered record count instead of buffered list count.
+ * Records pushed after channel closed are discarded.</p>
+ */
+public final class BlockingMemoryPipelineChannel implements PipelineChannel {
+    
+    private final int maxBufferedRecords;
+    
+    private final AckCallback ackCallback;
+    
+    private final Queue<List<Record>> queue = new ArrayDeque<>();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private int bufferedRecords;
+    
+    private boolean closed;
+    
+    public BlockingMemoryPipelineChannel(final int maxBufferedRecords, final AckCallback ackCallback) {
+        this.maxBufferedRecords = Math.max(1, maxBufferedRecords);
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void pushRecords(final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        lock.lockInterruptibly();
+        try {
+            while (!closed && bufferedRecords > 0 && bufferedRecords + records.size() > maxBufferedRecords) {
+                notFull.await();
+            }
+            if (closed) {
+                return;
+            }
+            queue.add(records);
+            bufferedRecords += records.size();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        List<Record> result = new ArrayList<>(batchSize);
+        long remainingNanos = timeUnit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                drainTo(result, batchSize);
+                if (closed || result.size() >= batchSize || remainingNanos <= 0L) {
+                    break;
+                }
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+    
+    private void drainTo(final List<Record> result, final int batchSize) {
+        int drainedRecords = 0;
+        while (result.size() < batchSize && !queue.isEmpty()) {
+            List<Record> records = queue.poll();
+            result.addAll(records);
+            drainedRecords += records.size();
+        }
+        if (drainedRecords > 0) {
+            bufferedRecords -= drainedRecords;
+            notFull.signalAll();
+        }
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        lock.lock();
+        try {
+            List<Record> result = queue.peek();
+            return null != result ? result : Collections.emptyList();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        lock.lock();
+        try {
+            List<Record> result = queue.poll();
+            if (null == result) {
+                return Collections.emptyList();
+            }
+            bufferedRecords -= result.size();
+            notFull.signalAll();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            queue.clear();
+            bufferedRecords = 0;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -26,10 +26,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -42,11 +43,17 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final List<PipelineChannel> channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<Long, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger assignedChannelCount = new AtomicInteger();
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
-        this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        this(IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList()));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final List<PipelineChannel> channels) {
+        channelNumber = channels.size();
+        this.channels = channels;
     }
     
     @Override
@@ -102,28 +109,12 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     }
     
     private PipelineChannel findChannel() {
-        String threadId = Long.toString(Thread.currentThread().getId());
-        checkAssignment(threadId);
-        return channels.get(channelAssignment.get(threadId));
-    }
-    
-    private void checkAssignment(final String threadId) {
-        if (!channelAssignment.containsKey(threadId)) {
-            synchronized (this) {
-                if (!channelAssignment.containsKey(threadId)) {
-                    assignmentChannel(threadId);
-                }
-            }
-        }
-    }
-    
-    private void assignmentChannel(final String threadId) {
-        for (int i = 0; i < channels.size(); i++) {
-            if (!channelAssignment.containsValue(i)) {
-                channelAssignment.put(threadId, i);
-                return;
-            }
+        long threadId = Thread.currentThread().getId();
+        Integer channelIndex = channelAssignment.get(threadId);
+        if (null == channelIndex) {
+            channelIndex = channelAssignment.computeIfAbsent(threadId, key -> assignedChannelCount.getAndIncrement());
         }
+        return channels.get(channelIndex);
     }
     
     @Override
@@ -93,6 +93,19 @@ public final class PipelineCommonSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build unique key boundary value SQL, which gets maximum unique key value of next page with parameters of begin value and page size.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return unique key boundary value SQL, empty if not supported by dialect
+     */
+    public Optional<String> buildUniqueKeyBoundaryValueSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return dialectSQLBuilder.buildUniqueKeyUpperBoundarySQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey, String.format("%s>=?", escapedUniqueKey));
+    }
+    
     /**
      * Build check empty SQL.
      *
@@ -69,4 +69,49 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String columnName) {
         return dialectSQLBuilder.buildCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build CRC32 SQL of unique key range.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnName column name
+     * @param uniqueKey unique key, it may be primary key, not null
+     * @param firstQuery first query, range has no lower bound if true
+     * @return built SQL
+     */
+    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String columnName, final String uniqueKey, final boolean firstQuery) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        String condition = firstQuery ? String.format("%s<=?", escapedUniqueKey) : String.format("%s>? AND %s<=?", escapedUniqueKey, escapedUniqueKey);
+        return dialectSQLBuilder.buildCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(columnName), condition);
+    }
+    
+    /**
+     * Build CRC32 SQL of records whose unique key is null.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnName column name
+     * @param uniqueKey unique key
+     * @return built SQL
+     */
+    public Optional<String> buildNullUniqueKeyCRC32SQL(final String schemaName, final String tableName, final String columnName, final String uniqueKey) {
+        return dialectSQLBuilder.buildCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(columnName),
+                String.format("%s IS NULL", sqlSegmentBuilder.getEscapedIdentifier(uniqueKey)));
+    }
+    
+    /**
+     * Build unique key upper boundary SQL, which gets maximum unique key value of next chunk with parameters of lower bound (exclusive, if not first query) and chunk size.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param firstQuery first query
+     * @return built SQL, empty if not supported by dialect
+     */
+    public Optional<String> buildUniqueKeyUpperBoundarySQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        String condition = firstQuery ? String.format("%s IS NOT NULL", escapedUniqueKey) : String.format("%s>?", escapedUniqueKey);
+        return dialectSQLBuilder.buildUniqueKeyUpperBoundarySQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey, condition);
+    }
 }
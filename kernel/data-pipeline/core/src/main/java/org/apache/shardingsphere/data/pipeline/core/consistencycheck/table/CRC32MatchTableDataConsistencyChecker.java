@@ -17,7 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
 
-import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.ChunkedCRC32SingleTableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Properties;
 
 /**
  * CRC32 match table data consistency checker.
@@ -33,13 +34,34 @@ import java.util.LinkedList;
 @SPIDescription("Match CRC32 of records.")
 public final class CRC32MatchTableDataConsistencyChecker extends MatchingTableDataConsistencyChecker {
     
-    private final SingleTableInventoryCalculator calculator = new CRC32SingleTableInventoryCalculator();
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 100000;
+    
+    private static final String MAX_CONNECTIONS_KEY = "max-connections";
+    
+    private static final int DEFAULT_MAX_CONNECTIONS = 4;
+    
+    private ChunkedCRC32SingleTableInventoryCalculator calculator;
+    
+    @Override
+    public void init(final Properties props) {
+        calculator = new ChunkedCRC32SingleTableInventoryCalculator(
+                getPositiveIntegerProperty(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE), getPositiveIntegerProperty(props, MAX_CONNECTIONS_KEY, DEFAULT_MAX_CONNECTIONS));
+    }
     
     @Override
     protected SingleTableInventoryCalculator getSingleTableInventoryCalculator() {
         return calculator;
     }
     
+    @Override
+    public void close() {
+        if (null != calculator) {
+            calculator.close();
+        }
+    }
+    
     @Override
     public Collection<DatabaseType> getSupportedDatabaseTypes() {
         Collection<DatabaseType> result = new LinkedList<>();
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
 
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordSingleTableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -31,7 +30,6 @@ import java.util.Properties;
  * Data match table data consistency checker.
  */
 @SPIDescription("Match raw data of records.")
-@Slf4j
 public final class DataMatchTableDataConsistencyChecker extends MatchingTableDataConsistencyChecker {
     
     private static final String CHUNK_SIZE_KEY = "chunk-size";
@@ -42,22 +40,7 @@ public final class DataMatchTableDataConsistencyChecker extends MatchingTableDat
     
     @Override
     public void init(final Properties props) {
-        calculator = new RecordSingleTableInventoryCalculator(getChunkSize(props));
-    }
-    
-    private int getChunkSize(final Properties props) {
-        int result;
-        try {
-            result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, Integer.toString(DEFAULT_CHUNK_SIZE)));
-        } catch (final NumberFormatException ignore) {
-            log.warn("'chunk-size' is not a valid number, use default value {}", DEFAULT_CHUNK_SIZE);
-            return DEFAULT_CHUNK_SIZE;
-        }
-        if (result <= 0) {
-            log.warn("Invalid 'chunk-size': {}, use default value {}", result, DEFAULT_CHUNK_SIZE);
-            return DEFAULT_CHUNK_SIZE;
-        }
-        return result;
+        calculator = new RecordSingleTableInventoryCalculator(getPositiveIntegerProperty(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE));
     }
     
     @Override
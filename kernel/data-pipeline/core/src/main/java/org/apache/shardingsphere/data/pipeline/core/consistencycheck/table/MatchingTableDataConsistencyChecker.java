@@ -36,6 +36,7 @@ import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -135,6 +136,29 @@ public abstract class MatchingTableDataConsistencyChecker implements TableDataCo
         }
     }
     
+    /**
+     * Get positive integer property.
+     *
+     * @param props properties
+     * @param key property key
+     * @param defaultValue default value, which is used if property is absent, not a number or not positive
+     * @return positive integer property value
+     */
+    protected final int getPositiveIntegerProperty(final Properties props, final String key, final int defaultValue) {
+        int result;
+        try {
+            result = Integer.parseInt(props.getProperty(key, Integer.toString(defaultValue)));
+        } catch (final NumberFormatException ignore) {
+            log.warn("'{}' is not a valid number, use default value {}", key, defaultValue);
+            return defaultValue;
+        }
+        if (result <= 0) {
+            log.warn("Invalid '{}': {}, use default value {}", key, result, defaultValue);
+            return defaultValue;
+        }
+        return result;
+    }
+    
     protected abstract SingleTableInventoryCalculator getSingleTableInventoryCalculator();
     
     @Override
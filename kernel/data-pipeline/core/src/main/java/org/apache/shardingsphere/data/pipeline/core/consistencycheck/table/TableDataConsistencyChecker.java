@@ -27,7 +27,7 @@ import java.util.Collection;
 /**
  * Table data consistency checker.
  */
-public interface TableDataConsistencyChecker extends ShardingSphereAlgorithm, PipelineCancellable {
+public interface TableDataConsistencyChecker extends ShardingSphereAlgorithm, PipelineCancellable, AutoCloseable {
     
     /**
      * Data consistency check for single table inventory data.
@@ -43,4 +43,8 @@ public interface TableDataConsistencyChecker extends ShardingSphereAlgorithm, Pi
      * @return supported database types
      */
     Collection<DatabaseType> getSupportedDatabaseTypes();
+    
+    @Override
+    default void close() {
+    }
 }
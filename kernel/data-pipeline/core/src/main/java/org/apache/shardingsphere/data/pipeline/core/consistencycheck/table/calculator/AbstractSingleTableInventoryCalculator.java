@@ -23,6 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -36,20 +38,37 @@ public abstract class AbstractSingleTableInventoryCalculator implements SingleTa
     
     private final AtomicReference<Statement> currentStatement = new AtomicReference<>();
     
+    private final Collection<Statement> runningStatements = ConcurrentHashMap.newKeySet();
+    
     protected final void setCurrentStatement(final Statement statement) {
         currentStatement.set(statement);
     }
     
-    @SneakyThrows(SQLException.class)
+    protected final void addRunningStatement(final Statement statement) {
+        runningStatements.add(statement);
+    }
+    
+    protected final void removeRunningStatement(final Statement statement) {
+        runningStatements.remove(statement);
+    }
+    
     @Override
     public void cancel() {
         canceling.set(true);
-        Statement statement = currentStatement.get();
+        long startTimeMillis = System.currentTimeMillis();
+        cancel(currentStatement.get());
+        for (Statement each : runningStatements) {
+            cancel(each);
+        }
+        log.info("cancel cost {} ms", System.currentTimeMillis() - startTimeMillis);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void cancel(final Statement statement) {
         if (null == statement || statement.isClosed()) {
             log.info("cancel, statement is null or closed");
             return;
         }
-        long startTimeMillis = System.currentTimeMillis();
         try {
             statement.cancel();
         } catch (final SQLFeatureNotSupportedException ex) {
@@ -59,7 +78,6 @@ public abstract class AbstractSingleTableInventoryCalculator implements SingleTa
             // CHECKSTYLE:ON
             log.info("cancel failed: {}", ex.getMessage());
         }
-        log.info("cancel cost {} ms", System.currentTimeMillis() - startTimeMillis);
     }
     
     /**
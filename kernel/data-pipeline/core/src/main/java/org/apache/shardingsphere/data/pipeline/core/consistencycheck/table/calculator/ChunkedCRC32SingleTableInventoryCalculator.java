@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedCRC32SingleTableInventoryCalculatorException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Chunked CRC32 single table inventory calculator.
+ *
+ * <p>Records are split into chunks by ranges of the first unique key. At most max connections chunks are calculated concurrently, and results are returned in order of unique key,
+ * so that source and target chunks could be compared and check position could be recorded as soon as both are calculated.
+ * Records whose unique key is null are calculated as the last chunk, and table without unique key is calculated as one chunk,
+ * so is table of database which does not support unique key upper boundary SQL.
+ * Chunks of all tables are calculated by one bounded executor of the calculator, which is shut down when the calculator is closed.</p>
+ */
+@Slf4j
+public final class ChunkedCRC32SingleTableInventoryCalculator extends AbstractStreamingSingleTableInventoryCalculator implements AutoCloseable {
+    
+    private final int chunkSize;
+    
+    private final int maxConnections;
+    
+    private final ExecutorService executor;
+    
+    public ChunkedCRC32SingleTableInventoryCalculator(final int chunkSize, final int maxConnections) {
+        this.chunkSize = chunkSize;
+        this.maxConnections = maxConnections;
+        // Source and target tables are calculated at the same time, each of them calculates at most max connections chunks concurrently.
+        executor = maxConnections > 1 ? Executors.newFixedThreadPool(maxConnections * 2, ExecutorThreadFactoryBuilder.build("pipeline-crc32-calculate-%d")) : null;
+    }
+    
+    @Override
+    protected Optional<SingleTableInventoryCalculatedResult> calculateChunk(final SingleTableInventoryCalculateParameter param) {
+        CalculationContext calculationContext = getOrCreateCalculationContext(param);
+        try {
+            submitChunks(calculationContext, param);
+            Future<CalculatedResult> result = calculationContext.getCalculatingChunks().poll();
+            if (null == result) {
+                calculationContext.close();
+                return Optional.empty();
+            }
+            return Optional.of(waitChunk(result));
+        } catch (final SQLException ex) {
+            calculationContext.close();
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            calculationContext.close();
+            throw ex;
+        }
+    }
+    
+    private CalculationContext getOrCreateCalculationContext(final SingleTableInventoryCalculateParameter param) {
+        CalculationContext result = (CalculationContext) param.getCalculationContext();
+        if (null != result) {
+            return result;
+        }
+        result = new CalculationContext(param.getDataSource(), maxConnections, executor);
+        result.setLowerBound(param.getTableCheckPosition());
+        param.setCalculationContext(result);
+        return result;
+    }
+    
+    private void submitChunks(final CalculationContext calculationContext, final SingleTableInventoryCalculateParameter param) throws SQLException {
+        PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType());
+        if (param.getUniqueKeys().isEmpty()) {
+            submitSingleChunk(calculationContext, pipelineSQLBuilder, param);
+            return;
+        }
+        String uniqueKey = param.getFirstUniqueKey().getName();
+        if (!pipelineSQLBuilder.buildUniqueKeyUpperBoundarySQL(param.getSchemaName(), param.getLogicTableName(), uniqueKey, true).isPresent()) {
+            submitSingleChunk(calculationContext, pipelineSQLBuilder, param);
+            return;
+        }
+        while (!calculationContext.isAllChunksSubmitted() && calculationContext.getCalculatingChunks().size() < maxConnections) {
+            Object lowerBound = calculationContext.getLowerBound();
+            Optional<Object> upperBound = queryUpperBound(calculationContext, pipelineSQLBuilder, param, lowerBound);
+            if (upperBound.isPresent()) {
+                submitChunk(calculationContext, () -> calculateCRC32(calculationContext, param,
+                        each -> pipelineSQLBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), each, uniqueKey, null == lowerBound),
+                        null == lowerBound ? Collections.singletonList(upperBound.get()) : Arrays.asList(lowerBound, upperBound.get()), upperBound.get()));
+                calculationContext.setLowerBound(upperBound.get());
+                continue;
+            }
+            calculationContext.setAllChunksSubmitted(true);
+            if (param.getFirstUniqueKey().isNullable()) {
+                submitChunk(calculationContext, () -> calculateCRC32(calculationContext, param,
+                        each -> pipelineSQLBuilder.buildNullUniqueKeyCRC32SQL(param.getSchemaName(), param.getLogicTableName(), each, uniqueKey), Collections.emptyList(), lowerBound));
+            }
+        }
+    }
+    
+    private void submitSingleChunk(final CalculationContext calculationContext, final PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder,
+                                   final SingleTableInventoryCalculateParameter param) {
+        if (!calculationContext.isAllChunksSubmitted()) {
+            calculationContext.setAllChunksSubmitted(true);
+            submitChunk(calculationContext, () -> calculateCRC32(calculationContext, param,
+                    each -> pipelineSQLBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), each), Collections.emptyList(), null));
+        }
+    }
+    
+    private Optional<Object> queryUpperBound(final CalculationContext calculationContext, final PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder,
+                                             final SingleTableInventoryCalculateParameter param, final Object lowerBound) throws SQLException {
+        String sql = pipelineSQLBuilder.buildUniqueKeyUpperBoundarySQL(param.getSchemaName(), param.getLogicTableName(), param.getFirstUniqueKey().getName(), null == lowerBound)
+                .orElseThrow(() -> new UnsupportedCRC32SingleTableInventoryCalculatorException(param.getDatabaseType()));
+        Connection connection = calculationContext.borrowConnection();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            addRunningStatement(preparedStatement);
+            try {
+                ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName()));
+                int parameterIndex = 1;
+                if (null != lowerBound) {
+                    preparedStatement.setObject(parameterIndex++, lowerBound);
+                }
+                preparedStatement.setInt(parameterIndex, chunkSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    return resultSet.next() ? Optional.ofNullable(resultSet.getObject(1)) : Optional.empty();
+                }
+            } finally {
+                removeRunningStatement(preparedStatement);
+            }
+        } finally {
+            calculationContext.returnConnection(connection);
+        }
+    }
+    
+    private void submitChunk(final CalculationContext calculationContext, final Callable<CalculatedResult> chunkCalculation) {
+        FutureTask<CalculatedResult> chunk = new FutureTask<>(chunkCalculation);
+        calculationContext.getCalculatingChunks().add(chunk);
+        if (null == calculationContext.getExecutor()) {
+            chunk.run();
+        } else {
+            calculationContext.getExecutor().execute(chunk);
+        }
+    }
+    
+    private CalculatedResult calculateCRC32(final CalculationContext calculationContext, final SingleTableInventoryCalculateParameter param,
+                                            final Function<String, Optional<String>> sqlBuilder, final List<Object> parameters, final Object maxUniqueKeyValue) throws SQLException {
+        List<Long> columnsCrc32 = new ArrayList<>(param.getColumnNames().size());
+        int recordsCount = 0;
+        Connection connection = calculationContext.borrowConnection();
+        try {
+            for (String each : param.getColumnNames()) {
+                Optional<String> sql = sqlBuilder.apply(each);
+                ShardingSpherePreconditions.checkState(sql.isPresent(), () -> new UnsupportedCRC32SingleTableInventoryCalculatorException(param.getDatabaseType()));
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
+                    addRunningStatement(preparedStatement);
+                    try {
+                        ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName()));
+                        for (int i = 0; i < parameters.size(); i++) {
+                            preparedStatement.setObject(i + 1, parameters.get(i));
+                        }
+                        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                            resultSet.next();
+                            columnsCrc32.add(resultSet.getLong(1));
+                            recordsCount = resultSet.getInt(2);
+                        }
+                    } finally {
+                        removeRunningStatement(preparedStatement);
+                    }
+                }
+            }
+        } finally {
+            calculationContext.returnConnection(connection);
+        }
+        return new CalculatedResult(recordsCount, columnsCrc32, maxUniqueKeyValue);
+    }
+    
+    private CalculatedResult waitChunk(final Future<CalculatedResult> chunk) throws SQLException {
+        try {
+            return chunk.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != executor) {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Getter
+    @Setter
+    private static final class CalculationContext implements AutoCloseable {
+        
+        private final DataSource dataSource;
+        
+        private final int maxConnections;
+        
+        private final ExecutorService executor;
+        
+        private final Queue<Future<CalculatedResult>> calculatingChunks = new LinkedList<>();
+        
+        private final Collection<Connection> connections = new LinkedList<>();
+        
+        private final BlockingQueue<Connection> idleConnections = new LinkedBlockingQueue<>();
+        
+        private volatile Object lowerBound;
+        
+        private volatile boolean allChunksSubmitted;
+        
+        private volatile boolean closed;
+        
+        CalculationContext(final DataSource dataSource, final int maxConnections, final ExecutorService executor) {
+            this.dataSource = dataSource;
+            this.maxConnections = maxConnections;
+            this.executor = executor;
+        }
+        
+        Connection borrowConnection() throws SQLException {
+            Connection result = idleConnections.poll();
+            if (null != result) {
+                return result;
+            }
+            synchronized (this) {
+                if (closed) {
+                    throw new SQLException("Calculation context is closed.");
+                }
+                if (connections.size() < maxConnections) {
+                    result = dataSource.getConnection();
+                    connections.add(result);
+                    return result;
+                }
+            }
+            try {
+                return idleConnections.take();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            }
+        }
+        
+        void returnConnection(final Connection connection) {
+            idleConnections.offer(connection);
+        }
+        
+        @Override
+        public void close() {
+            allChunksSubmitted = true;
+            calculatingChunks.forEach(each -> each.cancel(true));
+            calculatingChunks.clear();
+            synchronized (this) {
+                closed = true;
+                connections.forEach(QuietlyCloser::close);
+                connections.clear();
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CalculatedResult implements SingleTableInventoryCalculatedResult {
+        
+        @Getter
+        private final int recordsCount;
+        
+        private final Collection<Long> columnsCrc32;
+        
+        private final Object maxUniqueKeyValue;
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (null == o) {
+                return false;
+            }
+            if (this == o) {
+                return true;
+            }
+            if (getClass() != o.getClass()) {
+                log.warn("ChunkedCRC32SingleTableInventoryCalculator.CalculatedResult type not match, o.className={}", o.getClass().getName());
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (recordsCount != that.recordsCount) {
+                log.info("recordsCount not match, recordsCount={}, that.recordsCount={}", recordsCount, that.recordsCount);
+                return false;
+            }
+            if (!columnsCrc32.equals(that.columnsCrc32)) {
+                log.info("columnsCrc32 not match, columnsCrc32={}, that.columnsCrc32={}", columnsCrc32, that.columnsCrc32);
+                return false;
+            }
+            return true;
+        }
+        
+        @Override
+        public int hashCode() {
+            int result = recordsCount;
+            result = 31 * result + columnsCrc32.hashCode();
+            return result;
+        }
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.ofNullable(maxUniqueKeyValue);
+        }
+    }
+}
@@ -57,8 +57,8 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
@@ -127,13 +127,15 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
                 int rowCount = 0;
                 JobRateLimitAlgorithm rateLimitAlgorithm = dumperConfig.getRateLimitAlgorithm();
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-                List<Record> dataRecords = new LinkedList<>();
+                String[] columnNames = getColumnNames(resultSetMetaData, tableMetaData);
+                boolean[] uniqueKeyFlags = getUniqueKeyFlags(columnNames, tableMetaData);
+                List<Record> dataRecords = new ArrayList<>(batchSize + 1);
                 while (resultSet.next()) {
                     if (dataRecords.size() >= batchSize) {
                         channel.pushRecords(dataRecords);
-                        dataRecords = new LinkedList<>();
+                        dataRecords = new ArrayList<>(batchSize + 1);
                     }
-                    dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
+                    dataRecords.add(loadDataRecord(resultSet, resultSetMetaData, columnNames, uniqueKeyFlags));
                     ++rowCount;
                     if (!isRunning()) {
                         log.info("Broke because of inventory dump is not running.");
@@ -195,17 +197,32 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         }
     }
     
-    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
+    private String[] getColumnNames(final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
         int columnCount = resultSetMetaData.getColumnCount();
-        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, dumperConfig.getLogicTableName(), newPosition(resultSet), columnCount);
         List<String> insertColumnNames = Optional.ofNullable(dumperConfig.getInsertColumnNames()).orElse(Collections.emptyList());
-        ShardingSpherePreconditions.checkState(insertColumnNames.isEmpty() || insertColumnNames.size() == resultSetMetaData.getColumnCount(),
+        ShardingSpherePreconditions.checkState(insertColumnNames.isEmpty() || insertColumnNames.size() == columnCount,
                 () -> new PipelineInvalidParameterException("Insert colum names count not equals ResultSet column count"));
+        String[] result = new String[columnCount];
         for (int i = 1; i <= columnCount; i++) {
             String columnName = insertColumnNames.isEmpty() ? resultSetMetaData.getColumnName(i) : insertColumnNames.get(i - 1);
             ShardingSpherePreconditions.checkNotNull(tableMetaData.getColumnMetaData(columnName), () -> new PipelineInvalidParameterException(String.format("Column name is %s", columnName)));
-            boolean isUniqueKey = tableMetaData.getColumnMetaData(columnName).isUniqueKey();
-            result.addColumn(new Column(columnName, columnValueReaderEngine.read(resultSet, resultSetMetaData, i), true, isUniqueKey));
+            result[i - 1] = columnName;
+        }
+        return result;
+    }
+    
+    private boolean[] getUniqueKeyFlags(final String[] columnNames, final PipelineTableMetaData tableMetaData) {
+        boolean[] result = new boolean[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            result[i] = tableMetaData.getColumnMetaData(columnNames[i]).isUniqueKey();
+        }
+        return result;
+    }
+    
+    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final String[] columnNames, final boolean[] uniqueKeyFlags) throws SQLException {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, dumperConfig.getLogicTableName(), newPosition(resultSet), columnNames.length);
+        for (int i = 0; i < columnNames.length; i++) {
+            result.addColumn(new Column(columnNames[i], columnValueReaderEngine.read(resultSet, resultSetMetaData, i + 1), true, uniqueKeyFlags[i]));
         }
         return result;
     }
@@ -30,13 +30,18 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.common.config.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.record.RecordUtils;
 import org.apache.shardingsphere.data.pipeline.common.job.progress.listener.PipelineJobProgressUpdatedParameter;
 import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineImportSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineSQLSegmentBuilder;
 import org.apache.shardingsphere.data.pipeline.common.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.DataRecordMerger;
+import org.apache.shardingsphere.data.pipeline.spi.importer.DialectPipelineBulkLoader;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -47,6 +52,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -68,6 +74,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final PipelineImportSQLBuilder importSQLBuilder;
     
+    private final PipelineSQLSegmentBuilder sqlSegmentBuilder;
+    
+    private final DialectPipelineBulkLoader bulkLoader;
+    
+    private final AtomicBoolean bulkLoadDisabled;
+    
     private final AtomicReference<Statement> batchInsertStatement = new AtomicReference<>();
     
     private final AtomicReference<Statement> updateStatement = new AtomicReference<>();
@@ -75,10 +87,17 @@ public final class PipelineDataSourceSink implements PipelineSink {
     private final AtomicReference<Statement> batchDeleteStatement = new AtomicReference<>();
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
+        this(importerConfig, dataSourceManager, new AtomicBoolean());
+    }
+    
+    public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final AtomicBoolean bulkLoadDisabled) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
         rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        sqlSegmentBuilder = new PipelineSQLSegmentBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        bulkLoader = DatabaseTypedSPILoader.findService(DialectPipelineBulkLoader.class, importerConfig.getDataSourceConfig().getDatabaseType()).orElse(null);
+        this.bulkLoadDisabled = bulkLoadDisabled;
     }
     
     @Override
@@ -143,7 +162,10 @@ public final class PipelineDataSourceSink implements PipelineSink {
                     if (null != rateLimitAlgorithm) {
                         rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
                     }
-                    executeBatchInsert(connection, buffer);
+                    List<DataRecord> batchInsertDataRecords = bulkLoad(connection, buffer);
+                    if (!batchInsertDataRecords.isEmpty()) {
+                        executeBatchInsert(connection, batchInsertDataRecords);
+                    }
                     break;
                 case IngestDataChangeType.UPDATE:
                     if (null != rateLimitAlgorithm) {
@@ -217,6 +239,29 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private List<DataRecord> bulkLoad(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.get(0);
+        if (null == bulkLoader || bulkLoadDisabled.get() || !(dataRecord.getPosition() instanceof PrimaryKeyPosition)) {
+            return dataRecords;
+        }
+        try (Statement statement = connection.createStatement()) {
+            batchInsertStatement.set(statement);
+            return bulkLoader.load(statement, sqlSegmentBuilder.getQualifiedTableName(getSchemaName(dataRecord.getTableName()), dataRecord.getTableName()), dataRecords);
+        } catch (final SQLException ex) {
+            connection.rollback();
+            // Bulk load of some databases fails on the first existed record, such as COPY of PostgreSQL, so bulk load is not tried again by the job after any failure.
+            bulkLoadDisabled.set(true);
+            if (bulkLoader.isUnsupported(ex)) {
+                log.warn("Bulk load is unsupported, fall back to batch insert, table={}", dataRecord.getTableName(), ex);
+            } else {
+                log.warn("Bulk load failed, disable bulk load and fall back to batch insert, table={}", dataRecord.getTableName(), ex);
+            }
+            return dataRecords;
+        } finally {
+            batchInsertStatement.set(null);
+        }
+    }
+    
     private String getSchemaName(final String logicTableName) {
         return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
     }
@@ -296,8 +341,23 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     @Override
     public void close() {
-        PipelineJdbcUtils.cancelStatement(batchInsertStatement.get());
+        cancelBatchInsertStatement();
         PipelineJdbcUtils.cancelStatement(updateStatement.get());
         PipelineJdbcUtils.cancelStatement(batchDeleteStatement.get());
     }
+    
+    private void cancelBatchInsertStatement() {
+        if (null == bulkLoader) {
+            PipelineJdbcUtils.cancelStatement(batchInsertStatement.get());
+            return;
+        }
+        Statement statement = batchInsertStatement.get();
+        try {
+            if (null != statement && !statement.isClosed()) {
+                bulkLoader.cancel(statement);
+            }
+        } catch (final SQLException ex) {
+            throw new SQLWrapperException(ex);
+        }
+    }
 }
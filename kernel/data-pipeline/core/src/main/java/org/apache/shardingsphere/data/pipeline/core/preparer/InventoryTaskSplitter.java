@@ -50,6 +50,7 @@ import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorit
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -57,6 +58,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -67,6 +69,14 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int SPARSE_UNIQUE_KEY_SPAN_FACTOR = 10;
+    
+    private static final int SKEWED_SAMPLE_SPAN_FACTOR = 10;
+    
+    private static final int MAX_SAMPLES_COUNT = 10;
+    
+    private static final int MAX_SAMPLE_RECORDS_COUNT = 1000;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperConfiguration dumperConfig;
@@ -188,10 +198,35 @@ public final class InventoryTaskSplitter {
         if (0 == tableRecordsCount) {
             return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
         }
-        Collection<IngestPosition> result = new LinkedList<>();
         Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dataSource, dumperConfig);
         int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
-        long splitCount = tableRecordsCount / shardingSize + (tableRecordsCount % shardingSize > 0 ? 1 : 0);
+        long splitCount = getSplitCount(tableRecordsCount, shardingSize);
+        if (splitCount > 1 && isSparseUniqueKeyValues(uniqueKeyValuesRange, tableRecordsCount)) {
+            String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+            PipelineCommonSQLBuilder pipelineSQLBuilder = new PipelineCommonSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+            String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+            Optional<String> sql = pipelineSQLBuilder.buildUniqueKeyBoundaryValueSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey);
+            if (sql.isPresent()) {
+                try (
+                        Connection connection = dataSource.getConnection();
+                        PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
+                    if (isSkewedUniqueKeyValues(preparedStatement, uniqueKeyValuesRange, splitCount, shardingSize)) {
+                        return getPositionByIntegerUniqueKeyBoundaries(preparedStatement, uniqueKeyValuesRange, shardingSize);
+                    }
+                } catch (final SQLException ex) {
+                    throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
+                }
+            }
+        }
+        return getPositionByIntegerUniqueKeyIntervals(uniqueKeyValuesRange, splitCount);
+    }
+    
+    private long getSplitCount(final long recordsCount, final int shardingSize) {
+        return recordsCount / shardingSize + (recordsCount % shardingSize > 0 ? 1 : 0);
+    }
+    
+    private Collection<IngestPosition> getPositionByIntegerUniqueKeyIntervals(final Range<Long> uniqueKeyValuesRange, final long splitCount) {
+        Collection<IngestPosition> result = new LinkedList<>();
         long interval = (uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum()) / splitCount;
         IntervalToRangeIterator rangeIterator = new IntervalToRangeIterator(uniqueKeyValuesRange.getMinimum(), uniqueKeyValuesRange.getMaximum(), interval);
         while (rangeIterator.hasNext()) {
@@ -201,6 +236,51 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private boolean isSparseUniqueKeyValues(final Range<Long> uniqueKeyValuesRange, final long tableRecordsCount) {
+        return (double) uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum() + 1 > (double) tableRecordsCount * SPARSE_UNIQUE_KEY_SPAN_FACTOR;
+    }
+    
+    private boolean isSkewedUniqueKeyValues(final PreparedStatement preparedStatement, final Range<Long> uniqueKeyValuesRange, final long splitCount, final int shardingSize) throws SQLException {
+        long interval = (uniqueKeyValuesRange.getMaximum() - uniqueKeyValuesRange.getMinimum()) / splitCount;
+        int sampleRecordsCount = Math.min(shardingSize, MAX_SAMPLE_RECORDS_COUNT);
+        double expectedSampleSpan = (double) interval * sampleRecordsCount / shardingSize;
+        long samplesCount = Math.min(splitCount, MAX_SAMPLES_COUNT);
+        for (long i = 0; i < samplesCount; i++) {
+            long beginValue = uniqueKeyValuesRange.getMinimum() + i * splitCount / samplesCount * (interval + 1);
+            Long endValue = queryUniqueKeyBoundaryValue(preparedStatement, beginValue, sampleRecordsCount);
+            if (null != endValue && endValue < uniqueKeyValuesRange.getMaximum() && (double) (endValue - beginValue + 1) * SKEWED_SAMPLE_SPAN_FACTOR < expectedSampleSpan) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Collection<IngestPosition> getPositionByIntegerUniqueKeyBoundaries(final PreparedStatement preparedStatement, final Range<Long> uniqueKeyValuesRange,
+                                                                               final int shardingSize) throws SQLException {
+        Collection<IngestPosition> result = new LinkedList<>();
+        long beginValue = uniqueKeyValuesRange.getMinimum();
+        Long endValue = queryUniqueKeyBoundaryValue(preparedStatement, beginValue, shardingSize);
+        while (null != endValue && endValue < uniqueKeyValuesRange.getMaximum()) {
+            result.add(new IntegerPrimaryKeyPosition(beginValue, endValue));
+            beginValue = endValue + 1;
+            endValue = queryUniqueKeyBoundaryValue(preparedStatement, beginValue, shardingSize);
+        }
+        result.add(new IntegerPrimaryKeyPosition(beginValue, uniqueKeyValuesRange.getMaximum()));
+        return result;
+    }
+    
+    private Long queryUniqueKeyBoundaryValue(final PreparedStatement preparedStatement, final long beginValue, final int recordsCount) throws SQLException {
+        preparedStatement.setLong(1, beginValue);
+        preparedStatement.setInt(2, recordsCount);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next()) {
+                return null;
+            }
+            long result = resultSet.getLong(1);
+            return resultSet.wasNull() ? null : result;
+        }
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
         PipelineCommonSQLBuilder pipelineSQLBuilder = new PipelineCommonSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
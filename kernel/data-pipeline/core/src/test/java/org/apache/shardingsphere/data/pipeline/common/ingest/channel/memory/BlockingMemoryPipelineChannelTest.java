@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockingMemoryPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsTimeout() {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, new EmptyAckCallback());
+        assertTrue(channel.fetchRecords(1, 100, TimeUnit.MILLISECONDS).isEmpty());
+    }
+    
+    @Test
+    void assertFetchRecordsWakeUpOnPush() throws Exception {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, new EmptyAckCallback());
+        CountDownLatch fetchStartedLatch = new CountDownLatch(1);
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> {
+            fetchStartedLatch.countDown();
+            return channel.fetchRecords(1, 10, TimeUnit.SECONDS);
+        });
+        assertTrue(fetchStartedLatch.await(5, TimeUnit.SECONDS));
+        channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        assertThat(future.get(5, TimeUnit.SECONDS).size(), is(1));
+    }
+    
+    @Test
+    void assertPushRecordsBlockedByBufferedRecords() throws Exception {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(2, new EmptyAckCallback());
+        channel.pushRecords(Arrays.asList(new PlaceholderRecord(new PlaceholderPosition()), new PlaceholderRecord(new PlaceholderPosition())));
+        CountDownLatch pushStartedLatch = new CountDownLatch(1);
+        CompletableFuture<Void> future = pushAsync(channel, pushStartedLatch);
+        assertTrue(pushStartedLatch.await(5, TimeUnit.SECONDS));
+        assertFalse(future.isDone());
+        assertThat(channel.fetchRecords(2, 0, TimeUnit.MILLISECONDS).size(), is(2));
+        future.get(5, TimeUnit.SECONDS);
+        assertThat(channel.pollRecords().size(), is(1));
+    }
+    
+    @Test
+    void assertPushRecordsAfterClosedWhenBlocked() throws Exception {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(1, new EmptyAckCallback());
+        channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        CountDownLatch pushStartedLatch = new CountDownLatch(1);
+        CompletableFuture<Void> future = pushAsync(channel, pushStartedLatch);
+        assertTrue(pushStartedLatch.await(5, TimeUnit.SECONDS));
+        assertFalse(future.isDone());
+        channel.close();
+        future.get(5, TimeUnit.SECONDS);
+        assertTrue(channel.pollRecords().isEmpty());
+        channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        assertTrue(channel.fetchRecords(1, 0, TimeUnit.MILLISECONDS).isEmpty());
+    }
+    
+    private CompletableFuture<Void> pushAsync(final BlockingMemoryPipelineChannel channel, final CountDownLatch pushStartedLatch) {
+        return CompletableFuture.runAsync(() -> {
+            pushStartedLatch.countDown();
+            channel.pushRecords(Collections.singletonList(new PlaceholderRecord(new PlaceholderPosition())));
+        });
+    }
+}
@@ -46,4 +46,23 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         actual = pipelineSQLBuilder.buildQueryAllOrderingSQL(null, "t_order", Arrays.asList("order_id", "user_id", "status"), "order_id", false);
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order WHERE order_id>? ORDER BY order_id ASC"));
     }
+    
+    @Test
+    void assertBuildCRC32SQLWithUniqueKeyRange() {
+        assertThat(pipelineSQLBuilder.buildCRC32SQL(null, "t_order", "status", "order_id", true).orElse(null), is("SELECT CRC32(status) FROM t_order WHERE order_id<=?"));
+        assertThat(pipelineSQLBuilder.buildCRC32SQL(null, "t_order", "status", "order_id", false).orElse(null), is("SELECT CRC32(status) FROM t_order WHERE order_id>? AND order_id<=?"));
+    }
+    
+    @Test
+    void assertBuildNullUniqueKeyCRC32SQL() {
+        assertThat(pipelineSQLBuilder.buildNullUniqueKeyCRC32SQL(null, "t_order", "status", "order_id").orElse(null), is("SELECT CRC32(status) FROM t_order WHERE order_id IS NULL"));
+    }
+    
+    @Test
+    void assertBuildUniqueKeyUpperBoundarySQL() {
+        assertThat(pipelineSQLBuilder.buildUniqueKeyUpperBoundarySQL(null, "t_order", "order_id", true).orElse(null),
+                is("SELECT MAX(order_id) FROM (SELECT order_id FROM t_order WHERE order_id IS NOT NULL ORDER BY order_id ASC LIMIT ?) boundary"));
+        assertThat(pipelineSQLBuilder.buildUniqueKeyUpperBoundarySQL(null, "t_order", "order_id", false).orElse(null),
+                is("SELECT MAX(order_id) FROM (SELECT order_id FROM t_order WHERE order_id>? ORDER BY order_id ASC LIMIT ?) boundary"));
+    }
 }
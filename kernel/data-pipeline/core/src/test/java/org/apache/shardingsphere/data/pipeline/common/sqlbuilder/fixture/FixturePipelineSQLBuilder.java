@@ -33,6 +33,11 @@ public final class FixturePipelineSQLBuilder implements DialectPipelineSQLBuilde
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName, final String condition) {
+        return Optional.of(String.format("SELECT CRC32(%s) FROM %s WHERE %s", columnName, qualifiedTableName, condition));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "FIXTURE";
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator;
+
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedCRC32SingleTableInventoryCalculatorTest {
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    @Test
+    void assertCalculateSuccess() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Arrays.asList("foo_col", "bar_col"),
+                Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true)), null);
+        PreparedStatement firstBoundaryPreparedStatement = mockPreparedStatement(mockBoundaryResultSet(20, null));
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id IS NOT NULL ORDER BY id ASC LIMIT ?) boundary")).thenReturn(firstBoundaryPreparedStatement);
+        PreparedStatement boundaryPreparedStatement = mockPreparedStatement(mockBoundaryResultSet(null, null));
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id>? ORDER BY id ASC LIMIT ?) boundary")).thenReturn(boundaryPreparedStatement);
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id<=?")).thenReturn(mockPreparedStatement(mockCRC32ResultSet(123L, 10)));
+        when(connection.prepareStatement("SELECT CRC32(bar_col) FROM foo_tbl WHERE id<=?")).thenReturn(mockPreparedStatement(mockCRC32ResultSet(456L, 10)));
+        Iterator<SingleTableInventoryCalculatedResult> actual = new ChunkedCRC32SingleTableInventoryCalculator(10, 1).calculate(param).iterator();
+        assertThat(actual.next().getRecordsCount(), is(10));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    void assertCalculateFailedWithUniqueKey() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Arrays.asList("foo_col", "bar_col"),
+                Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true)), null);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
+        Iterator<SingleTableInventoryCalculatedResult> actual = new ChunkedCRC32SingleTableInventoryCalculator(10, 1).calculate(param).iterator();
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, actual::hasNext);
+    }
+    
+    @Test
+    void assertCalculateWithResumedPosition() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Arrays.asList("foo_col", "bar_col"),
+                Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true)), 10);
+        PreparedStatement boundaryPreparedStatement = mockPreparedStatement(mockBoundaryResultSet(20, null));
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id>? ORDER BY id ASC LIMIT ?) boundary")).thenReturn(boundaryPreparedStatement);
+        PreparedStatement fooPreparedStatement = mockPreparedStatement(mockCRC32ResultSet(123L, 10));
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id>? AND id<=?")).thenReturn(fooPreparedStatement);
+        PreparedStatement barPreparedStatement = mockPreparedStatement(mockCRC32ResultSet(456L, 10));
+        when(connection.prepareStatement("SELECT CRC32(bar_col) FROM foo_tbl WHERE id>? AND id<=?")).thenReturn(barPreparedStatement);
+        Iterator<SingleTableInventoryCalculatedResult> actual = new ChunkedCRC32SingleTableInventoryCalculator(10, 1).calculate(param).iterator();
+        SingleTableInventoryCalculatedResult actualChunk = actual.next();
+        assertThat(actualChunk.getRecordsCount(), is(10));
+        assertThat(actualChunk.getMaxUniqueKeyValue().orElse(null), is(20));
+        verify(fooPreparedStatement).setObject(1, 10);
+        verify(fooPreparedStatement).setObject(2, 20);
+        assertFalse(actual.hasNext());
+        verify(connection).close();
+    }
+    
+    @Test
+    void assertCalculateWithNullableUniqueKey() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Collections.singletonList("foo_col"),
+                Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", true, false, true)), null);
+        PreparedStatement firstBoundaryPreparedStatement = mockPreparedStatement(mockBoundaryResultSet(20, null));
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id IS NOT NULL ORDER BY id ASC LIMIT ?) boundary")).thenReturn(firstBoundaryPreparedStatement);
+        PreparedStatement boundaryPreparedStatement = mockPreparedStatement(mockBoundaryResultSet(null, null));
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id>? ORDER BY id ASC LIMIT ?) boundary")).thenReturn(boundaryPreparedStatement);
+        PreparedStatement rangePreparedStatement = mockPreparedStatement(mockCRC32ResultSet(123L, 10));
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id<=?")).thenReturn(rangePreparedStatement);
+        PreparedStatement nullPreparedStatement = mockPreparedStatement(mockCRC32ResultSet(456L, 2));
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id IS NULL")).thenReturn(nullPreparedStatement);
+        Iterator<SingleTableInventoryCalculatedResult> actual = new ChunkedCRC32SingleTableInventoryCalculator(10, 1).calculate(param).iterator();
+        SingleTableInventoryCalculatedResult actualRangeChunk = actual.next();
+        assertThat(actualRangeChunk.getRecordsCount(), is(10));
+        assertThat(actualRangeChunk.getMaxUniqueKeyValue().orElse(null), is(20));
+        verify(rangePreparedStatement).setObject(1, 20);
+        SingleTableInventoryCalculatedResult actualNullChunk = actual.next();
+        assertThat(actualNullChunk.getRecordsCount(), is(2));
+        assertThat(actualNullChunk.getMaxUniqueKeyValue().orElse(null), is(20));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    void assertCalculateWithMaxConnections() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Collections.singletonList("foo_col"),
+                Collections.singletonList(new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true)), null);
+        PreparedStatement firstBoundaryPreparedStatement = mockPreparedStatement(mockBoundaryResultSet(10, null));
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id IS NOT NULL ORDER BY id ASC LIMIT ?) boundary")).thenReturn(firstBoundaryPreparedStatement);
+        PreparedStatement boundaryPreparedStatement = mockPreparedStatement(mockBoundaryResultSet(20, null));
+        when(connection.prepareStatement("SELECT MAX(id) FROM (SELECT id FROM foo_tbl WHERE id>? ORDER BY id ASC LIMIT ?) boundary")).thenReturn(boundaryPreparedStatement);
+        PreparedStatement firstRangePreparedStatement = mockPreparedStatement(mockCRC32ResultSet(123L, 10));
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id<=?")).thenReturn(firstRangePreparedStatement);
+        PreparedStatement rangePreparedStatement = mockPreparedStatement(mockCRC32ResultSet(456L, 5));
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id>? AND id<=?")).thenReturn(rangePreparedStatement);
+        try (ChunkedCRC32SingleTableInventoryCalculator calculator = new ChunkedCRC32SingleTableInventoryCalculator(10, 2)) {
+            Iterator<SingleTableInventoryCalculatedResult> actual = calculator.calculate(param).iterator();
+            assertThat(actual.next().getMaxUniqueKeyValue().orElse(null), is(10));
+            SingleTableInventoryCalculatedResult actualSecondChunk = actual.next();
+            assertThat(actualSecondChunk.getRecordsCount(), is(5));
+            assertThat(actualSecondChunk.getMaxUniqueKeyValue().orElse(null), is(20));
+            assertFalse(actual.hasNext());
+        }
+        verify(connection, atLeastOnce()).close();
+    }
+    
+    @Test
+    void assertCalculateWithoutUniqueKey() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Arrays.asList("foo_col", "bar_col"),
+                Collections.emptyList(), null);
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl")).thenReturn(mockPreparedStatement(mockCRC32ResultSet(123L, 10)));
+        when(connection.prepareStatement("SELECT CRC32(bar_col) FROM foo_tbl")).thenReturn(mockPreparedStatement(mockCRC32ResultSet(456L, 10)));
+        Iterator<SingleTableInventoryCalculatedResult> actual = new ChunkedCRC32SingleTableInventoryCalculator(10, 1).calculate(param).iterator();
+        SingleTableInventoryCalculatedResult actualChunk = actual.next();
+        assertThat(actualChunk.getRecordsCount(), is(10));
+        assertFalse(actualChunk.getMaxUniqueKeyValue().isPresent());
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    void assertCancelRunningStatement() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Collections.singletonList("foo_col"),
+                Collections.emptyList(), null);
+        ChunkedCRC32SingleTableInventoryCalculator calculator = new ChunkedCRC32SingleTableInventoryCalculator(10, 1);
+        ResultSet resultSet = mockCRC32ResultSet(123L, 10);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(preparedStatement.executeQuery()).thenAnswer(invocation -> {
+            calculator.cancel();
+            return resultSet;
+        });
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl")).thenReturn(preparedStatement);
+        calculator.calculate(param).iterator().next();
+        verify(preparedStatement).cancel();
+    }
+    
+    @Test
+    void assertCalculateFailed() throws SQLException {
+        when(pipelineDataSource.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        SingleTableInventoryCalculateParameter param = new SingleTableInventoryCalculateParameter(pipelineDataSource, new SchemaTableName(null, "foo_tbl"), Collections.singletonList("foo_col"),
+                Collections.emptyList(), null);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
+        Iterator<SingleTableInventoryCalculatedResult> actual = new ChunkedCRC32SingleTableInventoryCalculator(10, 1).calculate(param).iterator();
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, actual::hasNext);
+        verify(connection).close();
+    }
+    
+    private PreparedStatement mockPreparedStatement(final ResultSet resultSet) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+    
+    private ResultSet mockBoundaryResultSet(final Object firstUpperBound, final Object secondUpperBound) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getObject(1)).thenReturn(firstUpperBound, secondUpperBound);
+        return result;
+    }
+    
+    private ResultSet mockCRC32ResultSet(final long crc32, final int recordsCount) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getLong(1)).thenReturn(crc32);
+        when(result.getInt(2)).thenReturn(recordsCount);
+        return result;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineSQLSegmentBuilder;
+import org.apache.shardingsphere.data.pipeline.spi.importer.DialectPipelineBulkLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL pipeline bulk loader, use {@code LOAD DATA LOCAL INFILE ... IGNORE} with in-memory input stream.
+ *
+ * <p>JDBC URL of target data source should contain {@code allowLoadLocalInfile=true}, otherwise records fall back to batch insert.
+ * Input stream is encoded as {@code utf8mb4} and converted to character set of target columns by MySQL, binary values are encoded as hex text and decoded by {@code UNHEX}.
+ * Records skipped by duplicate entry warnings and records of rows loaded with other warnings are written by batch insert again, so existed rows are updated rather than replaced,
+ * and data conversion warnings are handled the same as batch insert with SQL mode of target data source.
+ * All records are written by batch insert again if warnings can not be matched to records, for example warnings are truncated by {@code max_error_count}.
+ * Date time values with time zone are encoded as local date time of JVM default time zone, the same as {@link java.sql.Timestamp}.</p>
+ */
+public final class MySQLPipelineBulkLoader implements DialectPipelineBulkLoader {
+    
+    private static final byte[] NULL_VALUE = {'\\', 'N'};
+    
+    private static final Collection<Integer> UNSUPPORTED_ERROR_CODES = Arrays.asList(1148, 3948);
+    
+    private static final int DUPLICATE_ENTRY_ERROR_CODE = 1062;
+    
+    private static final Pattern DUPLICATE_ENTRY_PATTERN = Pattern.compile("^Duplicate entry '(.*)' for key '");
+    
+    private static final Pattern ROW_NUMBER_PATTERN = Pattern.compile(" at row (\\d+)$");
+    
+    private static final int DEFAULT_MAX_ERROR_COUNT = 64;
+    
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm:ss").appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).toFormatter();
+    
+    @Override
+    public List<DataRecord> load(final Statement statement, final String qualifiedTableName, final List<DataRecord> dataRecords) throws SQLException {
+        boolean[] binaryColumns = getBinaryColumns(dataRecords);
+        setLocalInfileInputStream(statement, new ByteArrayInputStream(encode(dataRecords)));
+        statement.execute(buildLoadDataSQL(qualifiedTableName, dataRecords.get(0), binaryColumns));
+        SQLWarning warnings = statement.getWarnings();
+        return null == warnings ? Collections.emptyList() : getNotLoadedDataRecords(dataRecords, warnings, dataRecords.size() - statement.getUpdateCount());
+    }
+    
+    private List<DataRecord> getNotLoadedDataRecords(final List<DataRecord> dataRecords, final SQLWarning warnings, final int skippedCount) {
+        Collection<String> duplicateEntries = new HashSet<>();
+        Collection<Integer> warnedRowNumbers = new HashSet<>();
+        int warningCount = 0;
+        for (SQLWarning each = warnings; null != each; each = each.getNextWarning()) {
+            warningCount++;
+            boolean duplicateEntry = DUPLICATE_ENTRY_ERROR_CODE == each.getErrorCode();
+            Matcher matcher = (duplicateEntry ? DUPLICATE_ENTRY_PATTERN : ROW_NUMBER_PATTERN).matcher(null == each.getMessage() ? "" : each.getMessage());
+            if (!matcher.find()) {
+                return dataRecords;
+            }
+            if (duplicateEntry) {
+                duplicateEntries.add(matcher.group(1));
+            } else {
+                warnedRowNumbers.add(Integer.parseInt(matcher.group(1)));
+            }
+        }
+        if (warningCount >= DEFAULT_MAX_ERROR_COUNT) {
+            return dataRecords;
+        }
+        List<DataRecord> result = new LinkedList<>();
+        int duplicatedCount = 0;
+        for (int i = 0; i < dataRecords.size(); i++) {
+            DataRecord each = dataRecords.get(i);
+            boolean duplicated = !duplicateEntries.isEmpty() && duplicateEntries.contains(getUniqueKeyEntry(each));
+            if (duplicated) {
+                duplicatedCount++;
+            }
+            if (duplicated || warnedRowNumbers.contains(i + 1)) {
+                result.add(each);
+            }
+        }
+        // Skipped count is not matched if unique key entries are formatted differently by MySQL or one record is duplicated with another record of the same batch.
+        return duplicatedCount == skippedCount ? result : dataRecords;
+    }
+    
+    private String getUniqueKeyEntry(final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().filter(Column::isUniqueKey).map(each -> null == each.getValue() ? "NULL" : toText(each.getValue())).collect(Collectors.joining("-"));
+    }
+    
+    private boolean[] getBinaryColumns(final List<DataRecord> dataRecords) {
+        boolean[] result = new boolean[dataRecords.get(0).getColumnCount()];
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = result[i] || each.getColumn(i).getValue() instanceof byte[];
+            }
+        }
+        return result;
+    }
+    
+    private void setLocalInfileInputStream(final Statement statement, final InputStream inputStream) throws SQLException {
+        Statement targetStatement = statement.unwrap(Statement.class);
+        try {
+            targetStatement.getClass().getMethod("setLocalInfileInputStream", InputStream.class).invoke(targetStatement, inputStream);
+        } catch (final ReflectiveOperationException ex) {
+            throw new SQLFeatureNotSupportedException(String.format("Local infile input stream is not supported by `%s`", targetStatement.getClass().getName()), ex);
+        }
+    }
+    
+    private String buildLoadDataSQL(final String qualifiedTableName, final DataRecord dataRecord, final boolean[] binaryColumns) {
+        PipelineSQLSegmentBuilder sqlSegmentBuilder = new PipelineSQLSegmentBuilder(getType());
+        String columnsLiteral = IntStream.range(0, binaryColumns.length)
+                .mapToObj(each -> binaryColumns[each] ? "@c" + each : sqlSegmentBuilder.getEscapedIdentifier(dataRecord.getColumn(each).getName()))
+                .collect(Collectors.joining(","));
+        String result = String.format("LOAD DATA LOCAL INFILE 'pipeline' IGNORE INTO TABLE %s CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (%s)", qualifiedTableName, columnsLiteral);
+        String setLiteral = IntStream.range(0, binaryColumns.length).filter(each -> binaryColumns[each])
+                .mapToObj(each -> String.format("%s=UNHEX(@c%d)", sqlSegmentBuilder.getEscapedIdentifier(dataRecord.getColumn(each).getName()), each))
+                .collect(Collectors.joining(","));
+        return setLiteral.isEmpty() ? result : result + " SET " + setLiteral;
+    }
+    
+    private byte[] encode(final List<DataRecord> dataRecords) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream(dataRecords.size() * 64);
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.write(',');
+                }
+                encodeValue(result, each.getColumn(i).getValue());
+            }
+            result.write('\n');
+        }
+        return result.toByteArray();
+    }
+    
+    private void encodeValue(final ByteArrayOutputStream out, final Object value) {
+        if (null == value) {
+            out.write(NULL_VALUE, 0, NULL_VALUE.length);
+            return;
+        }
+        if (value instanceof byte[]) {
+            encodeHex(out, (byte[]) value);
+            return;
+        }
+        byte[] bytes = toText(value).getBytes(StandardCharsets.UTF_8);
+        out.write('"');
+        for (byte each : bytes) {
+            if ('\\' == each || '"' == each) {
+                out.write('\\');
+                out.write(each);
+            } else if (0 == each) {
+                out.write('\\');
+                out.write('0');
+            } else if ('\n' == each) {
+                out.write('\\');
+                out.write('n');
+            } else if ('\r' == each) {
+                out.write('\\');
+                out.write('r');
+            } else {
+                out.write(each);
+            }
+        }
+        out.write('"');
+    }
+    
+    private void encodeHex(final ByteArrayOutputStream out, final byte[] value) {
+        out.write('"');
+        for (byte each : value) {
+            out.write(HEX_DIGITS[(each >> 4) & 0xF]);
+            out.write(HEX_DIGITS[each & 0xF]);
+        }
+        out.write('"');
+    }
+    
+    private String toText(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof LocalDateTime) {
+            return DATE_TIME_FORMATTER.format((LocalDateTime) value);
+        }
+        if (value instanceof OffsetDateTime) {
+            return DATE_TIME_FORMATTER.format(((OffsetDateTime) value).atZoneSameInstant(ZoneId.systemDefault()));
+        }
+        if (value instanceof ZonedDateTime) {
+            return DATE_TIME_FORMATTER.format(((ZonedDateTime) value).withZoneSameInstant(ZoneId.systemDefault()));
+        }
+        if (value instanceof Instant) {
+            return DATE_TIME_FORMATTER.format(((Instant) value).atZone(ZoneId.systemDefault()));
+        }
+        return value.toString();
+    }
+    
+    @Override
+    public boolean isUnsupported(final SQLException ex) {
+        return ex instanceof SQLFeatureNotSupportedException || UNSUPPORTED_ERROR_CODES.contains(ex.getErrorCode());
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.concurrent.Future;
+
 /**
  * Abstract rows event.
  */
@@ -30,4 +32,6 @@ public abstract class AbstractRowsEvent extends AbstractBinlogEvent {
     private String databaseName;
     
     private String tableName;
+    
+    private Future<?> rowsDecodeFuture;
 }
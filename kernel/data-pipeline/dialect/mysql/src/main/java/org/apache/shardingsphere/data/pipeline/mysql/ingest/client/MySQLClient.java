@@ -35,6 +35,7 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalEx
 import org.apache.shardingsphere.data.pipeline.core.exception.job.BinlogSyncChannelAlreadyClosedException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.GlobalTableMapEventMapping;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLBinlogEventPacketDecoder;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty.MySQLCommandPacketDecoder;
@@ -52,6 +53,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.netty.ChannelAttrInitializer;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.core.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.net.InetSocketAddress;
 import java.util.Collections;
@@ -59,6 +61,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -77,6 +82,9 @@ public final class MySQLClient {
     
     private Channel channel;
     
+    private final ExecutorService rowsEventDecodeExecutor = Executors.newFixedThreadPool(Math.min(4, Runtime.getRuntime().availableProcessors()),
+            ExecutorThreadFactoryBuilder.build("pipeline-mysql-binlog-decode-%d"));
+    
     private Promise<Object> responseCallback;
     
     private final ArrayBlockingQueue<List<AbstractBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(2500);
@@ -220,7 +228,7 @@ public final class MySQLClient {
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
         String tableKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()));
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX, rowsEventDecodeExecutor));
         channel.pipeline().addLast(new MySQLBinlogEventHandler(getLastBinlogEvent(binlogFileName, binlogPosition)));
         resetSequenceID();
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
@@ -246,13 +254,31 @@ public final class MySQLClient {
         ShardingSpherePreconditions.checkState(running, BinlogSyncChannelAlreadyClosedException::new);
         try {
             List<AbstractBinlogEvent> result = blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
-            return null == result ? Collections.emptyList() : result;
+            if (null == result) {
+                return Collections.emptyList();
+            }
+            waitRowsDecoded(result);
+            return result;
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
             return Collections.emptyList();
         }
     }
     
+    private void waitRowsDecoded(final List<AbstractBinlogEvent> events) throws InterruptedException {
+        for (AbstractBinlogEvent each : events) {
+            Future<?> rowsDecodeFuture = each instanceof AbstractRowsEvent ? ((AbstractRowsEvent) each).getRowsDecodeFuture() : null;
+            if (null == rowsDecodeFuture) {
+                continue;
+            }
+            try {
+                rowsDecodeFuture.get();
+            } catch (final ExecutionException ex) {
+                throw new PipelineInternalException(String.format("Decode rows event failed, file name: %s, position: %d", each.getFileName(), each.getPosition()), ex.getCause());
+            }
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     private <T> Optional<T> waitExpectedResponse(final Class<T> type) {
         try {
@@ -276,9 +302,14 @@ public final class MySQLClient {
     }
     
     /**
-     * Close netty channel.
+     * Close netty channel and rows event decode executor.
      */
     public void closeChannel() {
+        closeNettyChannel();
+        rowsEventDecodeExecutor.shutdown();
+    }
+    
+    private void closeNettyChannel() {
         if (null == channel || !channel.isOpen()) {
             return;
         }
@@ -360,7 +391,7 @@ public final class MySQLClient {
         }
         
         private void reconnect() {
-            closeChannel();
+            closeNettyChannel();
             if (reconnectTimes.incrementAndGet() > 3) {
                 log.warn("Exceeds the maximum number of retry times, last binlog event:{}", lastBinlogEvent);
                 return;
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.mysql.ingest.client.netty;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
@@ -45,23 +46,37 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * MySQL binlog event packet decoder.
+ *
+ * <p>Events are framed and table map events are decoded on event loop. If rows event decode executor is present, rows of large rows events are decoded by the executor,
+ * and rows events are emitted in binlog order with rows decode future, which should be waited before reading rows.</p>
  */
 @Slf4j
 public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private static final String TX_BEGIN_SQL = "BEGIN";
     
+    private static final int MIN_ASYNC_DECODE_ROWS_LENGTH = 4096;
+    
     private final BinlogContext binlogContext;
     
     private final boolean decodeWithTX;
     
+    private final ExecutorService rowsEventDecodeExecutor;
+    
     private List<AbstractBinlogEvent> records = new LinkedList<>();
     
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+        this(checksumLength, tableMap, decodeWithTX, null);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX,
+                                         final ExecutorService rowsEventDecodeExecutor) {
         this.decodeWithTX = decodeWithTX;
+        this.rowsEventDecodeExecutor = rowsEventDecodeExecutor;
         binlogContext = new BinlogContext(checksumLength, tableMap);
     }
     
@@ -197,32 +212,50 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
-        result.setAfterRows(packet.getRows());
+        readRows(result, packet, payload, () -> result.setAfterRows(packet.getRows()));
         return result;
     }
     
     private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
-        result.setBeforeRows(packet.getRows());
-        result.setAfterRows(packet.getRows2());
+        readRows(result, packet, payload, () -> {
+            result.setBeforeRows(packet.getRows());
+            result.setAfterRows(packet.getRows2());
+        });
         return result;
     }
     
     private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        packet.readRows(binlogContext.getTableMapEvent(packet.getTableId()), payload);
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, packet.getTableId());
-        result.setBeforeRows(packet.getRows());
+        readRows(result, packet, payload, () -> result.setBeforeRows(packet.getRows()));
         return result;
     }
     
+    private void readRows(final AbstractRowsEvent rowsEvent, final MySQLBinlogRowsEventPacket packet, final MySQLPacketPayload payload, final Runnable rowsSetter) {
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
+        ByteBuf byteBuf = payload.getByteBuf();
+        int rowsEndIndex = packet.getBinlogEventHeader().getEventSize() + 1 - packet.getBinlogEventHeader().getChecksumLength();
+        if (null == rowsEventDecodeExecutor || rowsEndIndex - byteBuf.readerIndex() < MIN_ASYNC_DECODE_ROWS_LENGTH) {
+            packet.readRows(tableMapEventPacket, payload);
+            rowsSetter.run();
+            return;
+        }
+        // Rows are read by absolute reader index of event, so copy from the beginning of event.
+        ByteBuf rowsByteBuf = Unpooled.copiedBuffer(byteBuf.slice(0, rowsEndIndex)).readerIndex(byteBuf.readerIndex());
+        byteBuf.readerIndex(rowsEndIndex);
+        MySQLPacketPayload rowsPayload = new MySQLPacketPayload(rowsByteBuf, payload.getCharset());
+        rowsEvent.setRowsDecodeFuture(rowsEventDecodeExecutor.submit(() -> {
+            packet.readRows(tableMapEventPacket, rowsPayload);
+            rowsSetter.run();
+        }));
+    }
+    
     private void initRowsEvent(final AbstractRowsEvent rowsEvent, final MySQLBinlogEventHeader binlogEventHeader, final long tableId) {
         rowsEvent.setDatabaseName(binlogContext.getDatabaseName(tableId));
         rowsEvent.setTableName(binlogContext.getTableName(tableId));
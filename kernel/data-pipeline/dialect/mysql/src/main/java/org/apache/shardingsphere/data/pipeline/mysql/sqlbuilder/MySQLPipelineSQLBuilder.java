@@ -63,6 +63,11 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildCRC32SQL(final String qualifiedTableName, final String columnName, final String condition) {
+        return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s WHERE %s", columnName, qualifiedTableName, condition));
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
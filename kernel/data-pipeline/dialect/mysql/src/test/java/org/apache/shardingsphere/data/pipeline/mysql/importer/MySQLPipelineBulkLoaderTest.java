@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLPipelineBulkLoaderTest {
+    
+    private final MySQLPipelineBulkLoader bulkLoader = new MySQLPipelineBulkLoader();
+    
+    @Mock
+    private LocalInfileStatement statement;
+    
+    @Test
+    void assertLoad() throws SQLException, IOException {
+        mockStatement();
+        assertTrue(bulkLoader.load(statement, "t_order", Collections.singletonList(createDataRecord(1, "foo"))).isEmpty());
+        verify(statement).execute("LOAD DATA LOCAL INFILE 'pipeline' IGNORE INTO TABLE t_order CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (id,name)");
+        assertThat(getLoadedText(), is("\"1\",\"foo\"\n"));
+    }
+    
+    @Test
+    void assertLoadNullValue() throws SQLException, IOException {
+        mockStatement();
+        bulkLoader.load(statement, "t_order", Collections.singletonList(createDataRecord(1, null)));
+        assertThat(getLoadedText(), is("\"1\",\\N\n"));
+    }
+    
+    @Test
+    void assertLoadQuoteAndBackslash() throws SQLException, IOException {
+        mockStatement();
+        bulkLoader.load(statement, "t_order", Collections.singletonList(createDataRecord(1, "a\"b\\c")));
+        assertThat(getLoadedText(), is("\"1\",\"a\\\"b\\\\c\"\n"));
+    }
+    
+    @Test
+    void assertLoadLineSeparators() throws SQLException, IOException {
+        mockStatement();
+        bulkLoader.load(statement, "t_order", Arrays.asList(createDataRecord(1, "foo\r\nbar"), createDataRecord(2, "baz")));
+        assertThat(getLoadedText(), is("\"1\",\"foo\\r\\nbar\"\n\"2\",\"baz\"\n"));
+    }
+    
+    @Test
+    void assertLoadBinaryValue() throws SQLException, IOException {
+        mockStatement();
+        bulkLoader.load(statement, "t_order", Arrays.asList(createDataRecord(1, new byte[]{0, '\\', '\n', (byte) 0xFF}), createDataRecord(2, null)));
+        verify(statement).execute("LOAD DATA LOCAL INFILE 'pipeline' IGNORE INTO TABLE t_order CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (id,@c1) SET name=UNHEX(@c1)");
+        assertThat(getLoadedText(), is("\"1\",\"005C0AFF\"\n\"2\",\\N\n"));
+    }
+    
+    @Test
+    void assertLoadBooleanAndDecimalValues() throws SQLException, IOException {
+        mockStatement();
+        bulkLoader.load(statement, "t_order", Arrays.asList(createDataRecord(1, true), createDataRecord(2, new BigDecimal("1E+3"))));
+        assertThat(getLoadedText(), is("\"1\",\"1\"\n\"2\",\"1000\"\n"));
+    }
+    
+    @Test
+    void assertLoadDateTimeValues() throws SQLException, IOException {
+        mockStatement();
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 1, 2, 3, 4, 5, 123000000);
+        bulkLoader.load(statement, "t_order", Arrays.asList(createDataRecord(1, localDateTime), createDataRecord(2, Timestamp.valueOf(localDateTime)),
+                createDataRecord(3, localDateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime().withOffsetSameInstant(ZoneOffset.ofHours(-12)))));
+        assertThat(getLoadedText(), is("\"1\",\"2023-01-02 03:04:05.123\"\n\"2\",\"2023-01-02 03:04:05.123\"\n\"3\",\"2023-01-02 03:04:05.123\"\n"));
+    }
+    
+    @Test
+    void assertLoadWithDuplicateEntryWarnings() throws SQLException {
+        mockStatement();
+        SQLWarning warning = new SQLWarning("Duplicate entry '1' for key 'PRIMARY'", "23000", 1062);
+        warning.setNextWarning(new SQLWarning("Duplicate entry '3' for key 't_order.PRIMARY'", "23000", 1062));
+        when(statement.getWarnings()).thenReturn(warning);
+        when(statement.getUpdateCount()).thenReturn(1);
+        List<DataRecord> dataRecords = Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, "bar"), createDataRecord(3, "baz"));
+        assertThat(getIds(bulkLoader.load(statement, "t_order", dataRecords)), is(Arrays.<Object>asList(1, 3)));
+    }
+    
+    @Test
+    void assertLoadWithUnmatchedDuplicateEntryWarnings() throws SQLException {
+        mockStatement();
+        when(statement.getWarnings()).thenReturn(new SQLWarning("Duplicate entry 'foo' for key 'uk_name'", "23000", 1062));
+        when(statement.getUpdateCount()).thenReturn(1);
+        List<DataRecord> dataRecords = Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, "bar"));
+        assertThat(getIds(bulkLoader.load(statement, "t_order", dataRecords)), is(Arrays.<Object>asList(1, 2)));
+    }
+    
+    @Test
+    void assertLoadWithDataTruncatedWarning() throws SQLException {
+        mockStatement();
+        when(statement.getWarnings()).thenReturn(new SQLWarning("Data truncated for column 'name' at row 2", "01000", 1265));
+        when(statement.getUpdateCount()).thenReturn(2);
+        List<DataRecord> dataRecords = Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, "bar"));
+        assertThat(getIds(bulkLoader.load(statement, "t_order", dataRecords)), is(Collections.<Object>singletonList(2)));
+    }
+    
+    @Test
+    void assertLoadWithWarningWithoutRowNumber() throws SQLException {
+        mockStatement();
+        when(statement.getWarnings()).thenReturn(new SQLWarning("Unknown warning", "01000", 1105));
+        List<DataRecord> dataRecords = Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, "bar"));
+        assertThat(getIds(bulkLoader.load(statement, "t_order", dataRecords)), is(Arrays.<Object>asList(1, 2)));
+    }
+    
+    @Test
+    void assertLoadWithoutLocalInfileInputStream() throws SQLException {
+        Statement plainStatement = mock(Statement.class);
+        when(plainStatement.unwrap(Statement.class)).thenReturn(plainStatement);
+        SQLException actual = assertThrows(SQLException.class, () -> bulkLoader.load(plainStatement, "t_order", Collections.singletonList(createDataRecord(1, "foo"))));
+        assertTrue(bulkLoader.isUnsupported(actual));
+    }
+    
+    @Test
+    void assertIsUnsupported() {
+        assertTrue(bulkLoader.isUnsupported(new SQLFeatureNotSupportedException()));
+        assertTrue(bulkLoader.isUnsupported(new SQLException("The used command is not allowed with this MySQL version", "42000", 1148)));
+        assertTrue(bulkLoader.isUnsupported(new SQLException("Loading local data is disabled", "42000", 3948)));
+        assertFalse(bulkLoader.isUnsupported(new SQLException("Duplicate entry '1' for key 'PRIMARY'", "23000", 1062)));
+    }
+    
+    private void mockStatement() throws SQLException {
+        when(statement.unwrap(Statement.class)).thenReturn(statement);
+    }
+    
+    private DataRecord createDataRecord(final int id, final Object name) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, "t_order", new IntegerPrimaryKeyPosition(1, 10), 2);
+        result.addColumn(new Column("id", id, true, true));
+        result.addColumn(new Column("name", name, true, false));
+        return result;
+    }
+    
+    private List<Object> getIds(final List<DataRecord> dataRecords) {
+        return dataRecords.stream().map(each -> each.getColumn(0).getValue()).collect(Collectors.toList());
+    }
+    
+    private String getLoadedText() throws IOException {
+        return new String(getLoadedBytes(), StandardCharsets.UTF_8);
+    }
+    
+    private byte[] getLoadedBytes() throws IOException {
+        ArgumentCaptor<InputStream> inputStreamCaptor = ArgumentCaptor.forClass(InputStream.class);
+        verify(statement).setLocalInfileInputStream(inputStreamCaptor.capture());
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int length;
+        while ((length = inputStreamCaptor.getValue().read(buffer)) > 0) {
+            result.write(buffer, 0, length);
+        }
+        return result.toByteArray();
+    }
+    
+    public interface LocalInfileStatement extends Statement {
+        
+        /**
+         * Set local infile input stream.
+         *
+         * @param inputStream input stream
+         */
+        void setLocalInfileInputStream(InputStream inputStream);
+    }
+}
@@ -23,7 +23,10 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.Attribute;
 import io.netty.util.concurrent.Promise;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.BinlogSyncChannelAlreadyClosedException;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComBinlogDumpCommandPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.binlog.MySQLComRegisterSlaveCommandPacket;
@@ -39,7 +42,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.io.Serializable;
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -158,6 +167,7 @@ class MySQLClientTest {
         Plugins.getMemberAccessor().set(MySQLClient.class.getDeclaredField("channel"), mysqlClient, channel);
         mysqlClient.closeChannel();
         assertFalse(channel.isOpen());
+        assertTrue(((ExecutorService) Plugins.getMemberAccessor().get(MySQLClient.class.getDeclaredField("rowsEventDecodeExecutor"), mysqlClient)).isShutdown());
     }
     
     @Test
@@ -166,4 +176,29 @@ class MySQLClientTest {
         Plugins.getMemberAccessor().set(MySQLClient.class.getDeclaredField("running"), mysqlClient, false);
         assertThrows(BinlogSyncChannelAlreadyClosedException.class, () -> mysqlClient.poll());
     }
+    
+    @Test
+    void assertPollWithRowsDecoded() throws ReflectiveOperationException, InterruptedException {
+        WriteRowsEvent event = new WriteRowsEvent();
+        event.setRowsDecodeFuture(CompletableFuture.runAsync(() -> event.setAfterRows(Collections.singletonList(new Serializable[]{1L}))));
+        getBlockingEventQueue().put(Collections.singletonList(event));
+        List<AbstractBinlogEvent> actual = mysqlClient.poll();
+        assertThat(actual.size(), is(1));
+        assertThat(((WriteRowsEvent) actual.get(0)).getAfterRows().size(), is(1));
+    }
+    
+    @Test
+    void assertPollWithRowsDecodeFailed() throws ReflectiveOperationException, InterruptedException {
+        WriteRowsEvent event = new WriteRowsEvent();
+        CompletableFuture<Void> rowsDecodeFuture = new CompletableFuture<>();
+        rowsDecodeFuture.completeExceptionally(new IndexOutOfBoundsException());
+        event.setRowsDecodeFuture(rowsDecodeFuture);
+        getBlockingEventQueue().put(Collections.singletonList(event));
+        assertThrows(PipelineInternalException.class, () -> mysqlClient.poll());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ArrayBlockingQueue<List<AbstractBinlogEvent>> getBlockingEventQueue() throws ReflectiveOperationException {
+        return (ArrayBlockingQueue<List<AbstractBinlogEvent>>) Plugins.getMemberAccessor().get(MySQLClient.class.getDeclaredField("blockingEventQueue"), mysqlClient);
+    }
 }
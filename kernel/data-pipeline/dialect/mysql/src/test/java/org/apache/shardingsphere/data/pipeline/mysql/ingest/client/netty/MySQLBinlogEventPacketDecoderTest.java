@@ -46,9 +46,13 @@ import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -174,6 +178,37 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getBeforeRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeLargeWriteRowEventWithExecutor() throws ReflectiveOperationException, ExecutionException, InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), false, executor);
+            ((BinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), decoder)).getTableMap().put(123L, tableMapEventPacket);
+            when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+            int rowCount = 200;
+            byte[] row = StringUtil.decodeHexDump("080100000000000000010000000753554343455353");
+            ByteBuf byteBuf = Unpooled.buffer();
+            byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e01000000"));
+            byteBuf.writeIntLE(35 + row.length * rowCount);
+            byteBuf.writeBytes(StringUtil.decodeHexDump("bb7c000000007b00000000000100020004ff"));
+            for (int i = 0; i < rowCount; i++) {
+                byteBuf.writeBytes(row);
+            }
+            byteBuf.writeBytes(StringUtil.decodeHexDump("65eff9ff"));
+            List<Object> decodedEvents = new LinkedList<>();
+            decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(1));
+            WriteRowsEvent actual = (WriteRowsEvent) decodedEvents.get(0);
+            assertThat(actual.getRowsDecodeFuture(), notNullValue());
+            actual.getRowsDecodeFuture().get();
+            assertThat(actual.getAfterRows().size(), is(rowCount));
+            assertThat(actual.getAfterRows().get(rowCount - 1), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
+            assertThat(byteBuf.readableBytes(), is(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
     @Test
     void assertBinlogEventHeaderIncomplete() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -52,6 +52,18 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    void assertBuildSumCrc32SQLWithCondition() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL("t2", "name", "id>? AND id<=?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(name) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2 WHERE id>? AND id<=?"));
+    }
+    
+    @Test
+    void assertBuildUniqueKeyUpperBoundarySQL() {
+        assertThat(sqlBuilder.buildUniqueKeyUpperBoundarySQL("t2", "id", "id>?").orElse(null), is("SELECT MAX(id) FROM (SELECT id FROM t2 WHERE id>? ORDER BY id ASC LIMIT ?) boundary"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(IngestDataChangeType.INSERT, tableName, new PlaceholderPosition(), 4);
         result.addColumn(new Column("id", "", false, true));
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.opengauss.importer;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.postgresql.util.PostgreSQLPipelineCopyUtils;
+import org.apache.shardingsphere.data.pipeline.spi.importer.DialectPipelineBulkLoader;
+import org.opengauss.PGConnection;
+import org.opengauss.core.BaseConnection;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * OpenGauss pipeline bulk loader, use {@code COPY FROM STDIN} through copy manager, copy is cancelled by cancel request of connection.
+ */
+public final class OpenGaussPipelineBulkLoader implements DialectPipelineBulkLoader {
+    
+    @Override
+    public List<DataRecord> load(final Statement statement, final String qualifiedTableName, final List<DataRecord> dataRecords) throws SQLException {
+        PostgreSQLPipelineCopyUtils.copyIn(getType(), qualifiedTableName, dataRecords, statement.getConnection().unwrap(PGConnection.class).getCopyAPI()::copyIn);
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public void cancel(final Statement statement) throws SQLException {
+        statement.getConnection().unwrap(BaseConnection.class).cancelQuery();
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
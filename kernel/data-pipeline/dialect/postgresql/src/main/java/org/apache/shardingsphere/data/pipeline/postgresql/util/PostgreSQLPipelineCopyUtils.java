@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.common.sqlbuilder.PipelineSQLSegmentBuilder;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL pipeline copy utility class.
+ *
+ * <p>Date time values are encoded with explicit offset the same as JDBC driver, {@link Timestamp} is in JVM default time zone, so values of {@code timestamptz} columns are not shifted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgreSQLPipelineCopyUtils {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    private static final DateTimeFormatter OFFSET_DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm:ss").appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).appendPattern("xxx").toFormatter();
+    
+    /**
+     * Copy data records in through copy manager of driver.
+     *
+     * @param databaseType database type
+     * @param qualifiedTableName qualified table name
+     * @param dataRecords data records
+     * @param copyInExecutor copy in executor of driver
+     * @throws SQLException SQL exception
+     */
+    public static void copyIn(final DatabaseType databaseType, final String qualifiedTableName, final List<DataRecord> dataRecords, final CopyInExecutor copyInExecutor) throws SQLException {
+        try {
+            copyInExecutor.copyIn(buildCopyInSQL(databaseType, qualifiedTableName, dataRecords.get(0)), new StringReader(encodeCSV(dataRecords)));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    /**
+     * Build copy in SQL.
+     *
+     * @param databaseType database type
+     * @param qualifiedTableName qualified table name
+     * @param dataRecord data record
+     * @return copy in SQL
+     */
+    public static String buildCopyInSQL(final DatabaseType databaseType, final String qualifiedTableName, final DataRecord dataRecord) {
+        PipelineSQLSegmentBuilder sqlSegmentBuilder = new PipelineSQLSegmentBuilder(databaseType);
+        String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
+        return String.format("COPY %s (%s) FROM STDIN WITH CSV", qualifiedTableName, columnsLiteral);
+    }
+    
+    /**
+     * Encode data records to CSV text.
+     *
+     * @param dataRecords data records
+     * @return CSV text
+     */
+    public static String encodeCSV(final List<DataRecord> dataRecords) {
+        StringBuilder result = new StringBuilder(dataRecords.size() * 64);
+        for (DataRecord each : dataRecords) {
+            for (int i = 0; i < each.getColumnCount(); i++) {
+                if (i > 0) {
+                    result.append(',');
+                }
+                Object value = each.getColumn(i).getValue();
+                if (null != value) {
+                    result.append('"').append(toText(value).replace("\"", "\"\"")).append('"');
+                }
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+    
+    private static String toText(final Object value) {
+        if (value instanceof byte[]) {
+            return toHex((byte[]) value);
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof Timestamp) {
+            return OFFSET_DATE_TIME_FORMATTER.format(((Timestamp) value).toLocalDateTime().atZone(ZoneId.systemDefault()));
+        }
+        if (value instanceof OffsetDateTime) {
+            return OFFSET_DATE_TIME_FORMATTER.format((OffsetDateTime) value);
+        }
+        if (value instanceof ZonedDateTime) {
+            return OFFSET_DATE_TIME_FORMATTER.format((ZonedDateTime) value);
+        }
+        if (value instanceof Instant) {
+            return OFFSET_DATE_TIME_FORMATTER.format(((Instant) value).atZone(ZoneId.systemDefault()));
+        }
+        return value.toString();
+    }
+    
+    private static String toHex(final byte[] value) {
+        StringBuilder result = new StringBuilder(2 + value.length * 2).append("\\x");
+        for (byte each : value) {
+            result.append(HEX_DIGITS[(each >> 4) & 0xF]).append(HEX_DIGITS[each & 0xF]);
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Copy in executor of driver, such as copy manager of PostgreSQL and openGauss.
+     */
+    @FunctionalInterface
+    public interface CopyInExecutor {
+        
+        /**
+         * Copy in from reader.
+         *
+         * @param sql copy in SQL
+         * @param reader reader of CSV text
+         * @return copied rows
+         * @throws SQLException SQL exception
+         * @throws IOException IO exception
+         */
+        long copyIn(String sql, Reader reader) throws SQLException, IOException;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.util;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostgreSQLPipelineCopyUtilsTest {
+    
+    @Test
+    void assertCopyIn() throws SQLException {
+        StringBuilder actual = new StringBuilder();
+        PostgreSQLPipelineCopyUtils.copyIn(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), "public.t_order",
+                Collections.singletonList(mockDataRecord(1, "ok", null)), (sql, reader) -> {
+                    actual.append(sql).append('\n').append(new BufferedReader(reader).lines().collect(Collectors.joining("\n")));
+                    return 1L;
+                });
+        assertThat(actual.toString(), is("COPY public.t_order (order_id,status,data) FROM STDIN WITH CSV\n\"1\",\"ok\","));
+    }
+    
+    @Test
+    void assertCopyInWithIOException() {
+        assertThrows(SQLException.class, () -> PostgreSQLPipelineCopyUtils.copyIn(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), "public.t_order",
+                Collections.singletonList(mockDataRecord(1, "ok", null)), (sql, reader) -> {
+                    throw new IOException("");
+                }));
+    }
+    
+    @Test
+    void assertBuildCopyInSQL() {
+        String actual = PostgreSQLPipelineCopyUtils.buildCopyInSQL(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"), "public.t_order", mockDataRecord(1, "ok", null));
+        assertThat(actual, is("COPY public.t_order (order_id,status,data) FROM STDIN WITH CSV"));
+    }
+    
+    @Test
+    void assertEncodeCSV() {
+        String actual = PostgreSQLPipelineCopyUtils.encodeCSV(Arrays.asList(mockDataRecord(1, "a\"b", new byte[]{1, (byte) 0xAB}), mockDataRecord(2, null, null)));
+        assertThat(actual, is("\"1\",\"a\"\"b\",\"\\x01ab\"\n\"2\",,\n"));
+    }
+    
+    @Test
+    void assertEncodeCSVWithDateTimeValues() {
+        LocalDateTime localDateTime = LocalDateTime.of(2023, 1, 2, 3, 4, 5, 123000000);
+        String defaultOffset = localDateTime.atZone(ZoneId.systemDefault()).format(DateTimeFormatter.ofPattern("xxx"));
+        assertThat(PostgreSQLPipelineCopyUtils.encodeCSV(Collections.singletonList(mockDataRecord(1, Timestamp.valueOf(localDateTime)))),
+                is("\"1\",\"2023-01-02 03:04:05.123" + defaultOffset + "\"\n"));
+        assertThat(PostgreSQLPipelineCopyUtils.encodeCSV(Collections.singletonList(mockDataRecord(1, OffsetDateTime.of(localDateTime, ZoneOffset.ofHours(-12))))),
+                is("\"1\",\"2023-01-02 03:04:05.123-12:00\"\n"));
+    }
+    
+    private DataRecord mockDataRecord(final int orderId, final Object createTime) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, "t_order", new PlaceholderPosition(), 2);
+        result.addColumn(new Column("order_id", orderId, true, true));
+        result.addColumn(new Column("create_time", createTime, true, false));
+        return result;
+    }
+    
+    private DataRecord mockDataRecord(final int orderId, final String status, final byte[] data) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, "t_order", new PlaceholderPosition(), 3);
+        result.addColumn(new Column("order_id", orderId, true, true));
+        result.addColumn(new Column("status", status, true, false));
+        result.addColumn(new Column("data", data, true, false));
+        return result;
+    }
+}
@@ -104,6 +104,7 @@ public final class ConsistencyCheckTasksRunner implements PipelineTasksRunner {
                 PipelineAPIFactory.getGovernanceRepositoryAPI(PipelineJobIdUtils.parseContextKey(parentJobId)).persistCheckJobResult(parentJobId, checkJobId, dataConsistencyCheckResult);
             } finally {
                 jobItemContext.getProgressContext().setCheckEndTimeMillis(System.currentTimeMillis());
+                tableChecker.close();
             }
         }
         
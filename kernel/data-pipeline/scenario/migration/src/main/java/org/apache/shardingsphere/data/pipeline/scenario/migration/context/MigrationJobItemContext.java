@@ -39,6 +39,7 @@ import org.apache.shardingsphere.data.pipeline.scenario.migration.config.Migrati
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -70,6 +71,8 @@ public final class MigrationJobItemContext implements InventoryIncrementalJobIte
     
     private final AtomicLong inventoryRecordsCount = new AtomicLong(0);
     
+    private final AtomicBoolean bulkLoadDisabled = new AtomicBoolean();
+    
     private final MigrationJobConfiguration jobConfig;
     
     private final MigrationProcessContext jobProcessContext;
@@ -126,7 +129,7 @@ public final class MigrationJobItemContext implements InventoryIncrementalJobIte
     
     @Override
     public PipelineSink getSink() {
-        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager, bulkLoadDisabled);
     }
     
     /**
@@ -56,19 +56,38 @@ public final class SQLParserExecutor {
     private ParseASTNode twoPhaseParse(final String sql) {
         SQLDialectParserFacade sqlParserFacade = DatabaseTypedSPILoader.getService(SQLDialectParserFacade.class, databaseType);
         SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        SQLParserStatistics statistics = SQLParserStatistics.getInstance(databaseType.getType());
+        String shape = SQLParserStatistics.getShape(sql);
+        if (statistics.isLLRequired(shape)) {
+            long startNanos = System.nanoTime();
+            ParseASTNode result = parseWithLL(sql, sqlParser);
+            statistics.recordLLDirect(System.nanoTime() - startNanos);
+            return result;
+        }
+        long startNanos = System.nanoTime();
         try {
             ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
-            return (ParseASTNode) sqlParser.parse();
+            ParseASTNode result = (ParseASTNode) sqlParser.parse();
+            statistics.recordSLLSuccess(System.nanoTime() - startNanos);
+            return result;
         } catch (final ParseCancellationException ex) {
+            long sllNanos = System.nanoTime() - startNanos;
             ((Parser) sqlParser).reset();
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
-            ((Parser) sqlParser).removeErrorListeners();
-            ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
-            try {
-                return (ParseASTNode) sqlParser.parse();
-            } catch (final ParseCancellationException e) {
-                throw new SQLParsingException(sql + ", " + e.getMessage());
-            }
+            long llStartNanos = System.nanoTime();
+            ParseASTNode result = parseWithLL(sql, sqlParser);
+            statistics.recordLLFallback(shape, sllNanos, System.nanoTime() - llStartNanos);
+            return result;
+        }
+    }
+    
+    private ParseASTNode parseWithLL(final String sql, final SQLParser sqlParser) {
+        ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
+        ((Parser) sqlParser).removeErrorListeners();
+        ((Parser) sqlParser).addErrorListener(SQLParserErrorListener.getInstance());
+        try {
+            return (ParseASTNode) sqlParser.parse();
+        } catch (final ParseCancellationException ex) {
+            throw new SQLParsingException(sql + ", " + ex.getMessage());
         }
     }
 }
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL parser statistics of prediction modes for each database type.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParserStatistics {
+    
+    private static final Map<String, SQLParserStatistics> INSTANCES = new ConcurrentHashMap<>();
+    
+    private static final long MAX_LL_SHAPE_SIZE = 4096L;
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private final Cache<Long, Boolean> llShapes = Caffeine.newBuilder().maximumSize(MAX_LL_SHAPE_SIZE).build();
+    
+    private final LongAdder sllSuccessCount = new LongAdder();
+    
+    private final LongAdder llFallbackCount = new LongAdder();
+    
+    private final LongAdder llDirectCount = new LongAdder();
+    
+    private final LongAdder sllNanos = new LongAdder();
+    
+    private final LongAdder llNanos = new LongAdder();
+    
+    /**
+     * Get SQL parser statistics.
+     *
+     * @param databaseType database type
+     * @return SQL parser statistics
+     */
+    public static SQLParserStatistics getInstance(final String databaseType) {
+        return INSTANCES.computeIfAbsent(databaseType, key -> new SQLParserStatistics());
+    }
+    
+    /**
+     * Get SQL parser statistics of all database types.
+     *
+     * @return database type and SQL parser statistics map
+     */
+    public static Map<String, SQLParserStatistics> getAllInstances() {
+        return Collections.unmodifiableMap(INSTANCES);
+    }
+    
+    /**
+     * Get statement shape of SQL, which replaces literals with placeholder and ignores case and redundant whitespaces.
+     *
+     * @param sql SQL
+     * @return statement shape
+     */
+    public static String getShape(final String sql) {
+        StringBuilder result = new StringBuilder(sql.length());
+        int index = 0;
+        char previous = ' ';
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\'' == current) {
+                index = skipQuoted(sql, index + 1, current);
+                previous = '?';
+            } else if (Character.isDigit(current) && !Character.isLetterOrDigit(previous) && '_' != previous) {
+                index = skipNumber(sql, index + 1);
+                previous = '?';
+            } else if (Character.isWhitespace(current)) {
+                index++;
+                if (' ' != previous) {
+                    previous = ' ';
+                    result.append(previous);
+                }
+                continue;
+            } else {
+                index++;
+                previous = Character.toLowerCase(current);
+            }
+            result.append(previous);
+        }
+        return result.toString();
+    }
+    
+    private static int skipQuoted(final String sql, final int startIndex, final char quote) {
+        int result = startIndex;
+        while (result < sql.length()) {
+            char current = sql.charAt(result++);
+            if ('\\' == current) {
+                result++;
+            } else if (quote == current) {
+                if (result >= sql.length() || quote != sql.charAt(result)) {
+                    return result;
+                }
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private static int skipNumber(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && (Character.isDigit(sql.charAt(result)) || '.' == sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether statement shape is known to require LL prediction mode.
+     *
+     * @param shape statement shape
+     * @return require LL prediction mode or not
+     */
+    public boolean isLLRequired(final String shape) {
+        return null != llShapes.getIfPresent(hash(shape));
+    }
+    
+    private static long hash(final String shape) {
+        long result = FNV_OFFSET_BASIS;
+        for (int i = 0; i < shape.length(); i++) {
+            result = (result ^ shape.charAt(i)) * FNV_PRIME;
+        }
+        return result;
+    }
+    
+    /**
+     * Record SLL success.
+     *
+     * @param nanos elapsed nanoseconds in SLL prediction mode
+     */
+    public void recordSLLSuccess(final long nanos) {
+        sllSuccessCount.increment();
+        sllNanos.add(nanos);
+    }
+    
+    /**
+     * Record LL fallback.
+     *
+     * @param shape statement shape
+     * @param sllNanos elapsed nanoseconds in SLL prediction mode
+     * @param llNanos elapsed nanoseconds in LL prediction mode
+     */
+    public void recordLLFallback(final String shape, final long sllNanos, final long llNanos) {
+        llShapes.put(hash(shape), Boolean.TRUE);
+        llFallbackCount.increment();
+        this.sllNanos.add(sllNanos);
+        this.llNanos.add(llNanos);
+    }
+    
+    /**
+     * Record LL direct parsing.
+     *
+     * @param nanos elapsed nanoseconds in LL prediction mode
+     */
+    public void recordLLDirect(final long nanos) {
+        llDirectCount.increment();
+        llNanos.add(nanos);
+    }
+    
+    /**
+     * Get SLL success count.
+     *
+     * @return SLL success count
+     */
+    public long getSLLSuccessCount() {
+        return sllSuccessCount.sum();
+    }
+    
+    /**
+     * Get LL fallback count.
+     *
+     * @return LL fallback count
+     */
+    public long getLLFallbackCount() {
+        return llFallbackCount.sum();
+    }
+    
+    /**
+     * Get LL direct count.
+     *
+     * @return LL direct count
+     */
+    public long getLLDirectCount() {
+        return llDirectCount.sum();
+    }
+    
+    /**
+     * Get time spent in SLL prediction mode.
+     *
+     * @return time spent in milliseconds
+     */
+    public long getSLLMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(sllNanos.sum());
+    }
+    
+    /**
+     * Get time spent in LL prediction mode.
+     *
+     * @return time spent in milliseconds
+     */
+    public long getLLMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(llNanos.sum());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SQLParserExecutorTest {
+    
+    @Test
+    void assertParseWithLLDirectlyForKnownShape() {
+        SQLParserStatistics statistics = SQLParserStatistics.getInstance("FIXTURE");
+        long llFallbackCount = statistics.getLLFallbackCount();
+        long llDirectCount = statistics.getLLDirectCount();
+        SQLParserExecutor executor = new SQLParserExecutor(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        executor.parse("SELECT * FROM t_order WHERE order_id = 1");
+        assertThat(statistics.getLLFallbackCount(), is(llFallbackCount + 1L));
+        assertThat(statistics.getLLDirectCount(), is(llDirectCount));
+        executor.parse("SELECT * FROM t_order WHERE order_id = 2");
+        assertThat(statistics.getLLFallbackCount(), is(llFallbackCount + 1L));
+        assertThat(statistics.getLLDirectCount(), is(llDirectCount + 1L));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLParserStatisticsTest {
+    
+    @Test
+    void assertGetShape() {
+        assertThat(SQLParserStatistics.getShape("SELECT *  FROM t_order_1 WHERE id = 10 AND name = 'it''s' AND price > 1.5"),
+                is("select * from t_order_1 where id = ? and name = ? and price > ?"));
+    }
+    
+    @Test
+    void assertGetShapeWithSameStructure() {
+        assertThat(SQLParserStatistics.getShape("select * from t_order where id in (1, 2)"), is(SQLParserStatistics.getShape("SELECT * FROM t_order WHERE id IN (30, 40)")));
+    }
+    
+    @Test
+    void assertIsLLRequiredWithLongShape() {
+        SQLParserStatistics actual = SQLParserStatistics.getInstance("FIXTURE_LONG_SHAPE");
+        String columns = String.join(", ", Collections.nCopies(100, "order_id"));
+        actual.recordLLFallback(SQLParserStatistics.getShape("SELECT " + columns + " FROM t_order"), 1000L, 2000L);
+        assertTrue(actual.isLLRequired(SQLParserStatistics.getShape("SELECT " + columns + " FROM t_order")));
+        assertFalse(actual.isLLRequired(SQLParserStatistics.getShape("SELECT " + columns + " FROM t_order_item")));
+    }
+    
+    @Test
+    void assertRecordLLFallback() {
+        SQLParserStatistics actual = SQLParserStatistics.getInstance("FIXTURE_STATISTICS");
+        String shape = SQLParserStatistics.getShape("SELECT 1");
+        assertFalse(actual.isLLRequired(shape));
+        actual.recordSLLSuccess(1000L);
+        actual.recordLLFallback(shape, 1000L, 2000L);
+        actual.recordLLDirect(1000L);
+        assertTrue(actual.isLLRequired(shape));
+        assertThat(actual.getSLLSuccessCount(), is(1L));
+        assertThat(actual.getLLFallbackCount(), is(1L));
+        assertThat(actual.getLLDirectCount(), is(1L));
+    }
+    
+    @Test
+    void assertGetAllInstances() {
+        SQLParserStatistics actual = SQLParserStatistics.getInstance("FIXTURE_ALL_INSTANCES");
+        assertThat(SQLParserStatistics.getAllInstances().get("FIXTURE_ALL_INSTANCES"), is(actual));
+    }
+}
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.sql.parser.fixture;
 
 import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.atn.ATN;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 
@@ -28,6 +30,11 @@ public final class LexerFixture extends Lexer implements SQLLexer {
         super(input);
     }
     
+    @Override
+    public Token nextToken() {
+        return new CommonToken(Token.EOF);
+    }
+    
     @Override
     public String[] getRuleNames() {
         return new String[0];
@@ -17,21 +17,34 @@
 
 package org.apache.shardingsphere.sql.parser.fixture;
 
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.TokenStream;
 import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNType;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.api.ASTNode;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 
 public final class ParserFixture extends Parser implements SQLParser {
     
     public ParserFixture(final TokenStream input) {
         super(input);
+        _interp = new ParserATNSimulator(this, new ATN(ATNType.PARSER, 0), new DFA[0], new PredictionContextCache());
     }
     
     @Override
     public ASTNode parse() {
-        return null;
+        if (PredictionMode.SLL == getInterpreter().getPredictionMode()) {
+            throw new ParseCancellationException("LL prediction mode is required");
+        }
+        return new ParseASTNode(new ParserRuleContext(), (CommonTokenStream) getInputStream());
     }
     
     @Override
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.props.DataSourcePoolPropertiesCreator;
+import org.apache.shardingsphere.proxy.backend.exception.ConnectionCreationInterruptedException;
+import org.apache.shardingsphere.proxy.backend.exception.ConnectionCreationTimeoutException;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Connection creation lock of data source.
+ *
+ * <p>
+ * Queries which get more than one connection from the same data source create their connections one query at a time,
+ * so two queries can not each hold part of the pool and wait for each other.
+ * Unlike a monitor, waiting for the lock is fair, bounded by connection timeout of the pool and does not pin virtual threads.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceConnectionCreationLock {
+    
+    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 30000L;
+    
+    private static final ConcurrentMap<DataSource, DataSourceConnectionCreationLock> LOCKS = CacheBuilder.newBuilder().weakKeys().<DataSource, DataSourceConnectionCreationLock>build().asMap();
+    
+    private final Lock lock = new ReentrantLock(true);
+    
+    @Getter
+    private final long timeoutMilliseconds;
+    
+    /**
+     * Get connection creation lock of data source.
+     *
+     * @param dataSource data source
+     * @return connection creation lock
+     */
+    public static DataSourceConnectionCreationLock getInstance(final DataSource dataSource) {
+        return LOCKS.computeIfAbsent(dataSource, DataSourceConnectionCreationLock::create);
+    }
+    
+    private static DataSourceConnectionCreationLock create(final DataSource dataSource) {
+        Object timeoutMilliseconds = DataSourcePoolPropertiesCreator.create(dataSource).getPoolPropertySynonyms().getStandardProperties().get("connectionTimeoutMilliseconds");
+        return new DataSourceConnectionCreationLock(timeoutMilliseconds instanceof Number && ((Number) timeoutMilliseconds).longValue() > 0L
+                ? ((Number) timeoutMilliseconds).longValue()
+                : DEFAULT_TIMEOUT_MILLISECONDS);
+    }
+    
+    /**
+     * Lock to create connections.
+     *
+     * @param dataSourceName data source name
+     * @param connectionSize size of connections to be created
+     * @throws SQLException SQL exception
+     */
+    public void lock(final String dataSourceName, final int connectionSize) throws SQLException {
+        boolean locked;
+        try {
+            locked = lock.tryLock(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionCreationInterruptedException(dataSourceName, connectionSize);
+        }
+        if (!locked) {
+            throw new ConnectionCreationTimeoutException(dataSourceName, connectionSize, timeoutMilliseconds);
+        }
+    }
+    
+    /**
+     * Unlock after connections created.
+     */
+    public void unlock() {
+        lock.unlock();
+    }
+}
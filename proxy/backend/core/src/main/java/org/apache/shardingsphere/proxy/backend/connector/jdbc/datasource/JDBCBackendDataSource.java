@@ -65,7 +65,6 @@ public final class JDBCBackendDataSource implements BackendDataSource {
      * @return connections
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
         DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName);
@@ -82,8 +81,12 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
         }
-        synchronized (dataSource) {
+        DataSourceConnectionCreationLock connectionCreationLock = DataSourceConnectionCreationLock.getInstance(dataSource);
+        connectionCreationLock.lock(dataSourceName, connectionSize);
+        try {
             return createConnections(databaseName, dataSourceName, dataSource, connectionSize, transactionType);
+        } finally {
+            connectionCreationLock.unlock();
         }
     }
     
@@ -255,7 +255,7 @@ public final class YamlDatabaseConfigurationImportExecutor {
         Collection<ShardingSphereRule> rules = database.getRuleMetaData().getRules();
         readwriteSplittingRuleConfigImportChecker.check(database, readwriteSplittingRuleConfig);
         allRuleConfigs.add(readwriteSplittingRuleConfig);
-        rules.add(new ReadwriteSplittingRule(database.getName(), readwriteSplittingRuleConfig, instanceContext));
+        rules.add(new ReadwriteSplittingRule(database.getName(), readwriteSplittingRuleConfig, database.getResourceMetaData().getDataSources(), instanceContext));
     }
     
     private void addEncryptRuleConfiguration(final EncryptRuleConfiguration encryptRuleConfig, final Collection<RuleConfiguration> allRuleConfigs, final ShardingSphereDatabase database) {
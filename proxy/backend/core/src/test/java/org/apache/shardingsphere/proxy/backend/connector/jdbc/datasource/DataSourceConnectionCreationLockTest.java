@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource;
+
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.datasource.fixture.CallTimeRecordDataSource;
+import org.apache.shardingsphere.proxy.backend.exception.ConnectionCreationInterruptedException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataSourceConnectionCreationLockTest {
+    
+    @Test
+    void assertGetInstance() {
+        CallTimeRecordDataSource dataSource = new CallTimeRecordDataSource();
+        assertThat(DataSourceConnectionCreationLock.getInstance(dataSource), sameInstance(DataSourceConnectionCreationLock.getInstance(dataSource)));
+    }
+    
+    @Test
+    void assertGetDefaultTimeoutMilliseconds() {
+        assertThat(DataSourceConnectionCreationLock.getInstance(new CallTimeRecordDataSource()).getTimeoutMilliseconds(), is(30000L));
+    }
+    
+    @Test
+    void assertLockAndUnlock() throws SQLException {
+        DataSourceConnectionCreationLock connectionCreationLock = DataSourceConnectionCreationLock.getInstance(new CallTimeRecordDataSource());
+        connectionCreationLock.lock("foo_ds", 2);
+        connectionCreationLock.lock("foo_ds", 2);
+        connectionCreationLock.unlock();
+        connectionCreationLock.unlock();
+        connectionCreationLock.lock("foo_ds", 2);
+        connectionCreationLock.unlock();
+    }
+    
+    @Test
+    void assertLockWithInterrupted() {
+        DataSourceConnectionCreationLock connectionCreationLock = DataSourceConnectionCreationLock.getInstance(new CallTimeRecordDataSource());
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(ConnectionCreationInterruptedException.class, () -> connectionCreationLock.lock("foo_ds", 2));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer;
+
+import com.google.common.base.Strings;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.warmup.SQLParserWarmUpExecutor;
+import org.apache.shardingsphere.infra.parser.warmup.SQLParserWarmUpResult;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * SQL parser warm up initializer.
+ */
+@Slf4j
+public final class SQLParserWarmUpInitializer {
+    
+    /**
+     * Warm up SQL parser with SQLs of configured warm up file, one SQL per line.
+     * 
+     * <p>Relative warm up file path is resolved against configuration path of ShardingSphere-Proxy.</p>
+     *
+     * @param configPath configuration path of ShardingSphere-Proxy
+     */
+    public void init(final String configPath) {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        String warmUpFile = metaData.getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE);
+        if (Strings.isNullOrEmpty(warmUpFile)) {
+            return;
+        }
+        Optional<List<String>> sqls = loadSQLs(getResourceFile(configPath).toPath().resolve(warmUpFile));
+        if (!sqls.isPresent()) {
+            return;
+        }
+        SQLParserRule sqlParserRule = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        for (DatabaseType each : getProtocolTypes(metaData)) {
+            SQLParserWarmUpResult result = new SQLParserWarmUpExecutor(sqlParserRule.getSQLParserEngine(each)).warmUp(sqls.get());
+            log.info("SQL parser warm up for `{}` finished, parsed {} of {} SQLs ({}%) in {} ms.",
+                    each.getType(), result.getParsedCount(), result.getTotalCount(), Math.round(result.getCoverage() * 100), result.getElapsedMillis());
+        }
+    }
+    
+    private Optional<List<String>> loadSQLs(final Path warmUpFile) {
+        try {
+            return Optional.of(Files.readAllLines(warmUpFile, StandardCharsets.UTF_8).stream().map(String::trim).filter(each -> !each.isEmpty()).collect(Collectors.toList()));
+        } catch (final IOException ex) {
+            log.warn("Can not read SQL parser warm up file `{}`, skip warm up.", warmUpFile, ex);
+            return Optional.empty();
+        }
+    }
+    
+    @SneakyThrows(URISyntaxException.class)
+    private File getResourceFile(final String path) {
+        URL url = SQLParserWarmUpInitializer.class.getResource(path);
+        return null == url ? new File(path) : new File(url.toURI().getPath());
+    }
+    
+    private Collection<DatabaseType> getProtocolTypes(final ShardingSphereMetaData metaData) {
+        return metaData.getDatabases().values().stream().map(ShardingSphereDatabase::getProtocolType).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
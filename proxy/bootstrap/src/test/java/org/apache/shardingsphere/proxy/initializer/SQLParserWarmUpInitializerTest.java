@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.initializer;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.parser.SQLParserEngine;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class SQLParserWarmUpInitializerTest {
+    
+    @Test
+    void assertInitWithMissingWarmUpFile() {
+        ShardingSphereMetaData metaData = mockMetaData("missing-warm-up.txt");
+        new SQLParserWarmUpInitializer().init("/conf/warm-up/");
+        verify(metaData, never()).getGlobalRuleMetaData();
+    }
+    
+    @Test
+    void assertInitWithWarmUpFileRelativeToConfigurationPath() {
+        ShardingSphereMetaData metaData = mockMetaData("warm-up.txt");
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getProtocolType()).thenReturn(databaseType);
+        when(metaData.getDatabases()).thenReturn(Collections.singletonMap("foo_db", database));
+        SQLParserRule sqlParserRule = mock(SQLParserRule.class);
+        SQLParserEngine sqlParserEngine = mock(SQLParserEngine.class);
+        when(sqlParserRule.getSQLParserEngine(databaseType)).thenReturn(sqlParserEngine);
+        when(metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class)).thenReturn(sqlParserRule);
+        new SQLParserWarmUpInitializer().init("/conf/warm-up/");
+        verify(sqlParserEngine).parse("SELECT 1", true);
+        verify(sqlParserEngine).parse("SELECT 2", true);
+    }
+    
+    private ShardingSphereMetaData mockMetaData(final String warmUpFile) {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_PARSER_WARM_UP_FILE.getKey(), warmUpFile);
+        when(result.getProps()).thenReturn(new ConfigurationProperties(props));
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData()).thenReturn(result);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        return result;
+    }
+}
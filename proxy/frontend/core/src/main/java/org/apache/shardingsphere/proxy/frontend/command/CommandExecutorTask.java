@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.command;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
@@ -36,6 +37,7 @@ import org.apache.shardingsphere.proxy.backend.exception.BackendConnectionExcept
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.constant.LogMDCConstants;
 import org.apache.shardingsphere.proxy.frontend.exception.ExpectedExceptions;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
@@ -44,6 +46,7 @@ import org.slf4j.MDC;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -61,6 +64,8 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private boolean pipelinable;
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -93,9 +98,7 @@ public final class CommandExecutorTask implements Runnable {
             } catch (final BackendConnectionException ex) {
                 exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
             }
-            if (isNeedFlush) {
-                context.flush();
-            }
+            flush(isNeedFlush);
             processClosedExceptions(exceptions);
             context.pipeline().fireUserEventTriggered(new WriteCompleteEvent());
             if (sqlShowEnabled) {
@@ -130,6 +133,7 @@ public final class CommandExecutorTask implements Runnable {
             responsePackets.forEach(context::write);
             if (commandExecutor instanceof QueryCommandExecutor) {
                 commandExecuteEngine.writeQueryData(context, connectionSession.getDatabaseConnectionManager(), (QueryCommandExecutor) commandExecutor, responsePackets.size());
+                pipelinable = ResponseType.QUERY == ((QueryCommandExecutor) commandExecutor).getResponseType() && !connectionSession.getTransactionStatus().isInTransaction();
             }
             return true;
         } catch (final SQLException | ShardingSphereSQLException | SQLDialectException ex) {
@@ -140,6 +144,28 @@ public final class CommandExecutorTask implements Runnable {
         }
     }
     
+    private void flush(final boolean isNeedFlush) {
+        Attribute<Boolean> flushDeferred = context.channel().attr(CommonConstants.FLUSH_DEFERRED_ATTRIBUTE_KEY);
+        if (!isNeedFlush && !Boolean.TRUE.equals(flushDeferred.get())) {
+            return;
+        }
+        if (pipelinable && hasBufferedMessages() && isPipeliningEnabled()) {
+            flushDeferred.set(true);
+            return;
+        }
+        flushDeferred.set(false);
+        context.flush();
+    }
+    
+    private boolean hasBufferedMessages() {
+        AtomicInteger bufferedMessages = context.channel().attr(CommonConstants.BUFFERED_MESSAGES_ATTRIBUTE_KEY).get();
+        return null != bufferedMessages && bufferedMessages.get() > 0;
+    }
+    
+    private boolean isPipeliningEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_PIPELINING_ENABLED);
+    }
+    
     private void processException(final Exception cause) {
         if (ExpectedExceptions.isExpected(cause.getClass())) {
             log.debug("Exception occur: ", cause);
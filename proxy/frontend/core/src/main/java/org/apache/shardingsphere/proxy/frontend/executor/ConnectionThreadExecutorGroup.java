@@ -18,12 +18,17 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,15 +38,23 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * If virtual thread enabled, every connection executes all commands in order on its own virtual thread, and carrier threads pinned by them are monitored.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    @Getter
+    private final VirtualThreadPinnedEventMonitor pinnedEventMonitor = new VirtualThreadPinnedEventMonitor();
+    
+    @Getter
+    private volatile boolean virtualThreadEnabled;
+    
     /**
      * Get connection thread executor group.
      *
@@ -51,6 +64,26 @@ public final class ConnectionThreadExecutorGroup {
         return INSTANCE;
     }
     
+    /**
+     * Initialize connection thread executor group.
+     *
+     * @param virtualThreadEnabled whether enable virtual thread per connection
+     */
+    public void init(final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled && !ExecutorThreadFactoryBuilder.buildVirtual("Connection-").isPresent()) {
+            log.warn("Virtual thread is not supported by current JVM `{}`, fall back to shared command executor.", System.getProperty("java.version"));
+            pinnedEventMonitor.close();
+            this.virtualThreadEnabled = false;
+            return;
+        }
+        if (!virtualThreadEnabled) {
+            pinnedEventMonitor.close();
+        } else if (!pinnedEventMonitor.start()) {
+            log.info("JFR event streaming is not available, use `-Djdk.tracePinnedThreads=short` to trace carrier threads pinned by synchronized blocks of JDBC drivers.");
+        }
+        this.virtualThreadEnabled = virtualThreadEnabled;
+    }
+    
     /**
      * Register connection.
      *
@@ -61,7 +94,12 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), newThreadFactory(connectionId));
+    }
+    
+    private ThreadFactory newThreadFactory(final int connectionId) {
+        Optional<ThreadFactory> virtualThreadFactory = virtualThreadEnabled ? ExecutorThreadFactoryBuilder.buildVirtual(String.format("Connection-%d-VirtualThreadExecutor-", connectionId)) : Optional.empty();
+        return virtualThreadFactory.orElseGet(() -> runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
     }
     
     /**
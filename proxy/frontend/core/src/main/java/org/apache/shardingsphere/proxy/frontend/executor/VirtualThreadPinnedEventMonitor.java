@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.executor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Virtual thread pinned event monitor.
+ *
+ * <p>
+ * Stream JFR event {@code jdk.VirtualThreadPinned} of current JVM, count the carrier threads pinned longer than threshold and log the pinned stack trace.
+ * JFR event streaming is looked up by reflection, because the code base still targets Java 8.
+ * </p>
+ */
+@Slf4j
+public final class VirtualThreadPinnedEventMonitor implements AutoCloseable {
+    
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20L);
+    
+    private final LongAdder pinnedCount = new LongAdder();
+    
+    private Object recordingStream;
+    
+    /**
+     * Start monitor.
+     *
+     * @return started or not, false if JFR event streaming is not supported by current JVM
+     */
+    public synchronized boolean start() {
+        if (null != recordingStream) {
+            return true;
+        }
+        Object result = null;
+        try {
+            Class<?> recordingStreamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            result = recordingStreamClass.getConstructor().newInstance();
+            Class<?> eventSettingsClass = Class.forName("jdk.jfr.EventSettings");
+            Object eventSettings = recordingStreamClass.getMethod("enable", String.class).invoke(result, PINNED_EVENT_NAME);
+            eventSettingsClass.getMethod("withThreshold", Duration.class).invoke(eventSettings, PINNED_THRESHOLD);
+            eventSettingsClass.getMethod("withStackTrace").invoke(eventSettings);
+            Consumer<Object> pinnedEventConsumer = this::onPinned;
+            recordingStreamClass.getMethod("onEvent", String.class, Consumer.class).invoke(result, PINNED_EVENT_NAME, pinnedEventConsumer);
+            recordingStreamClass.getMethod("startAsync").invoke(result);
+            recordingStream = result;
+            return true;
+        } catch (final ReflectiveOperationException ex) {
+            log.debug("JFR event streaming is not supported by current JVM.", ex);
+            closeQuietly(result);
+            return false;
+        }
+    }
+    
+    private void onPinned(final Object event) {
+        pinnedCount.increment();
+        log.warn("Carrier thread pinned by virtual thread longer than {} ms, event: {}", PINNED_THRESHOLD.toMillis(), event);
+    }
+    
+    /**
+     * Get count of pinned events since monitor created.
+     *
+     * @return count of pinned events
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+    
+    @Override
+    public synchronized void close() {
+        closeQuietly(recordingStream);
+        recordingStream = null;
+    }
+    
+    private void closeQuietly(final Object stream) {
+        if (null == stream) {
+            return;
+        }
+        try {
+            Class.forName("jdk.jfr.consumer.RecordingStream").getMethod("close").invoke(stream);
+        } catch (final ReflectiveOperationException ignored) {
+        }
+    }
+}
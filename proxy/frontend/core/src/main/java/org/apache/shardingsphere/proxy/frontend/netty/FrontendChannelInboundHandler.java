@@ -36,6 +36,7 @@ import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Frontend channel inbound handler.
@@ -66,6 +67,7 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     @Override
     public void channelRead(final ChannelHandlerContext context, final Object message) {
+        Optional.ofNullable(context.channel().attr(CommonConstants.BUFFERED_MESSAGES_ATTRIBUTE_KEY).get()).ifPresent(AtomicInteger::decrementAndGet);
         if (!authenticated) {
             authenticated = authenticate(context, (ByteBuf) message);
             return;
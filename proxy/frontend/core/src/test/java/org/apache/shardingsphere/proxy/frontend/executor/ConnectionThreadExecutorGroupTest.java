@@ -18,9 +18,18 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConnectionThreadExecutorGroupTest {
     
@@ -39,4 +48,34 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    @DisabledForJreRange(max = JRE.JAVA_20)
+    void assertRegisterWithVirtualThreadEnabled() throws InterruptedException, ExecutionException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().init(true);
+        try {
+            assertTrue(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled());
+            ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+            assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-Connection-3-VirtualThreadExecutor-0"));
+        } finally {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+            ConnectionThreadExecutorGroup.getInstance().init(false);
+        }
+    }
+    
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void assertRegisterWithVirtualThreadEnabledAndUnsupportedJVM() throws InterruptedException, ExecutionException {
+        int connectionId = 4;
+        ConnectionThreadExecutorGroup.getInstance().init(true);
+        try {
+            assertFalse(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled());
+            ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+            assertThat(ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get(), is("Connection-4-ThreadExecutor"));
+        } finally {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+            ConnectionThreadExecutorGroup.getInstance().init(false);
+        }
+    }
 }
@@ -41,6 +41,7 @@ import java.util.concurrent.ExecutorService;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -74,7 +75,25 @@ class OKProxyStateTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
-    @SuppressWarnings({"unchecked", "SameParameterValue"})
+    @Test
+    void assertExecuteWithVirtualThreadEnabled() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getTransactionStatus().getTransactionType()).thenReturn(TransactionType.LOCAL);
+        when(connectionSession.getConnectionId()).thenReturn(2);
+        ExecutorService executorService = registerMockExecutorService(2);
+        ConnectionThreadExecutorGroup.getInstance().init(true);
+        try {
+            new OKProxyState().execute(context, null, mock(DatabaseProtocolFrontendEngine.class), connectionSession);
+            verify(executorService, times(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled() ? 1 : 0)).execute(any(CommandExecutorTask.class));
+        } finally {
+            ConnectionThreadExecutorGroup.getInstance().init(false);
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(2);
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private ExecutorService registerMockExecutorService(final int connectionId) {
         Map<Integer, ExecutorService> executorServices = (Map<Integer, ExecutorService>) Plugins.getMemberAccessor()
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.dump;
+
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.datasource.DefaultPipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.common.metadata.loader.StandardPipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.dumper.InventoryDumper;
+import org.apache.shardingsphere.test.it.data.pipeline.core.util.JobConfigurationBuilder;
+import org.apache.shardingsphere.test.it.data.pipeline.core.util.PipelineContextUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class InventoryDumperTest {
+    
+    private static final PipelineDataSourceManager DATA_SOURCE_MANAGER = new DefaultPipelineDataSourceManager();
+    
+    private DumperConfiguration dumperConfig;
+    
+    @BeforeAll
+    static void beforeClass() {
+        PipelineContextUtils.mockModeConfigAndContextManager();
+    }
+    
+    @AfterAll
+    static void afterClass() {
+        DATA_SOURCE_MANAGER.close();
+    }
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        dumperConfig = PipelineContextUtils.mockMigrationJobItemContext(JobConfigurationBuilder.createJobConfiguration()).getTaskConfig().getDumperConfig();
+        try (
+                Connection connection = DATA_SOURCE_MANAGER.getDataSource(dumperConfig.getDataSourceConfig()).getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+        }
+    }
+    
+    @Test
+    void assertDumpWithColumnMetaDataOfEachResultSet() {
+        List<DataRecord> actualRecords = dump(createInventoryDumperConfiguration(null));
+        assertThat(actualRecords.size(), is(2));
+        for (DataRecord each : actualRecords) {
+            assertThat(each.getColumn(0).getName(), is("order_id"));
+            assertTrue(each.getColumn(0).isUniqueKey());
+            assertThat(each.getColumn(1).getName(), is("user_id"));
+            assertFalse(each.getColumn(1).isUniqueKey());
+        }
+        List<DataRecord> actualReorderedRecords = dump(createInventoryDumperConfiguration("SELECT user_id,order_id FROM t_order WHERE order_id>=? AND order_id<=? ORDER BY order_id ASC"));
+        assertThat(actualReorderedRecords.size(), is(2));
+        for (DataRecord each : actualReorderedRecords) {
+            assertThat(each.getColumn(0).getName(), is("user_id"));
+            assertFalse(each.getColumn(0).isUniqueKey());
+            assertThat(each.getColumn(1).getName(), is("order_id"));
+            assertTrue(each.getColumn(1).isUniqueKey());
+        }
+        assertThat(actualReorderedRecords.get(0).getColumn(0).getValue(), is("xxx"));
+        assertThat(((Number) actualReorderedRecords.get(0).getColumn(1).getValue()).intValue(), is(1));
+        assertThat(actualReorderedRecords.get(1).getColumn(0).getValue(), is("yyy"));
+        assertThat(((Number) actualReorderedRecords.get(1).getColumn(1).getValue()).intValue(), is(999));
+    }
+    
+    private InventoryDumperConfiguration createInventoryDumperConfiguration(final String querySQL) {
+        InventoryDumperConfiguration result = new InventoryDumperConfiguration(dumperConfig);
+        result.setLogicTableName("t_order");
+        result.setActualTableName("t_order");
+        result.setUniqueKeyColumns(Collections.singletonList(PipelineContextUtils.mockOrderIdColumnMetaData()));
+        result.setPosition(new IntegerPrimaryKeyPosition(0, 1000));
+        result.setQuerySQL(querySQL);
+        result.setBatchSize(1);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<DataRecord> dump(final InventoryDumperConfiguration inventoryDumperConfig) {
+        PipelineChannel channel = mock(PipelineChannel.class);
+        PipelineDataSourceWrapper dataSource = DATA_SOURCE_MANAGER.getDataSource(inventoryDumperConfig.getDataSourceConfig());
+        new InventoryDumper(inventoryDumperConfig, channel, dataSource, new StandardPipelineTableMetaDataLoader(dataSource)).start();
+        ArgumentCaptor<List<Record>> recordsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(channel, atLeastOnce()).pushRecords(recordsCaptor.capture());
+        return recordsCaptor.getAllValues().stream().flatMap(Collection::stream).filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSou
 import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.FinishedPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.pk.type.IntegerPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineDataSourceSink;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
@@ -46,17 +47,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -71,6 +77,8 @@ class PipelineDataSourceSinkTest {
     private final PipelineDataSourceConfiguration dataSourceConfig = new StandardPipelineDataSourceConfiguration(
             "jdbc:h2:mem:test_db;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL;USER=root;PASSWORD=root", "root", "root");
     
+    private final PipelineDataSourceConfiguration bulkLoadDataSourceConfig = new StandardPipelineDataSourceConfiguration("jdbc:mysql://127.0.0.1:3306/test_db", "root", "root");
+    
     @Mock
     private PipelineChannel channel;
     
@@ -87,9 +95,9 @@ class PipelineDataSourceSinkTest {
     
     @BeforeEach
     void setUp() throws SQLException {
-        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(), dataSourceManager);
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(dataSourceConfig), dataSourceManager);
         importer = new SingleChannelConsumerImporter(channel, 100, 1, TimeUnit.SECONDS, pipelineSink, new FixtureInventoryIncrementalJobItemContext());
-        when(dataSourceManager.getDataSource(dataSourceConfig)).thenReturn(dataSource);
+        when(dataSourceManager.getDataSource(any())).thenReturn(dataSource);
         when(dataSource.getConnection()).thenReturn(connection);
     }
     
@@ -145,6 +153,44 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertWriteInventoryInsertDataRecordsWithUnsupportedBulkLoad() throws SQLException {
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(bulkLoadDataSourceConfig), dataSourceManager);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.unwrap(Statement.class)).thenReturn(statement);
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        pipelineSink.write("", Collections.singletonList(getInventoryDataRecord(1)));
+        pipelineSink.write("", Collections.singletonList(getInventoryDataRecord(2)));
+        verify(connection).createStatement();
+        verify(connection).rollback();
+        verify(preparedStatement, times(2)).executeBatch();
+    }
+    
+    @Test
+    void assertWriteInventoryInsertDataRecordsWithBulkLoadFailure() throws SQLException {
+        AtomicBoolean bulkLoadDisabled = new AtomicBoolean();
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(bulkLoadDataSourceConfig), dataSourceManager, bulkLoadDisabled);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.unwrap(Statement.class)).thenThrow(new SQLException("Duplicate entry '1' for key 'PRIMARY'", "23000", 1062));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        pipelineSink.write("", Collections.singletonList(getInventoryDataRecord(1)));
+        new PipelineDataSourceSink(mockImporterConfiguration(bulkLoadDataSourceConfig), dataSourceManager, bulkLoadDisabled).write("", Collections.singletonList(getInventoryDataRecord(2)));
+        assertTrue(bulkLoadDisabled.get());
+        verify(connection).createStatement();
+        verify(connection).rollback();
+        verify(preparedStatement, times(2)).executeBatch();
+    }
+    
+    private DataRecord getInventoryDataRecord(final int id) {
+        DataRecord result = new DataRecord(IngestDataChangeType.INSERT, TABLE_NAME, new IntegerPrimaryKeyPosition(1, 10), 3);
+        result.addColumn(new Column("id", id, true, true));
+        result.addColumn(new Column("user", 10, true, false));
+        result.addColumn(new Column("status", "INSERT", true, false));
+        return result;
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(IngestDataChangeType.UPDATE, TABLE_NAME, new PlaceholderPosition(), 3);
         result.addColumn(new Column("id", 1, 2, true, true));
@@ -191,8 +237,8 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
-    private ImporterConfiguration mockImporterConfiguration() {
+    private ImporterConfiguration mockImporterConfiguration(final PipelineDataSourceConfiguration pipelineDataSourceConfig) {
         Map<LogicTableName, Set<String>> shardingColumnsMap = Collections.singletonMap(new LogicTableName("test_table"), Collections.singleton("user"));
-        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3);
+        return new ImporterConfiguration(pipelineDataSourceConfig, shardingColumnsMap, new TableNameSchemaNameMapping(Collections.emptyMap()), 1000, null, 3, 3);
     }
 }
@@ -103,6 +103,45 @@ class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    void assertSplitInventoryDataWithSparseIntPrimary() throws SQLException {
+        initSparseIntPrimaryEnvironment(dumperConfig, 95);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        InventoryTask firstTask = actual.get(0);
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getBeginValue(), is(1L));
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getEndValue(), is(10L));
+        InventoryTask lastTask = actual.get(9);
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getBeginValue(), is(91L));
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getEndValue(), is(1000004L));
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithUniformSparseIntPrimary() throws SQLException {
+        initUniformSparseIntPrimaryEnvironment(dumperConfig);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        InventoryTask firstTask = actual.get(0);
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getBeginValue(), is(100000L));
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getEndValue(), is(1090000L));
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithSparseIntPrimaryAndManyShardings() throws SQLException {
+        initSparseIntPrimaryEnvironment(dumperConfig, 1095);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(110));
+        InventoryTask firstTask = actual.get(0);
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getBeginValue(), is(1L));
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getEndValue(), is(10L));
+        InventoryTask lastDenseTask = actual.get(108);
+        assertThat(((IntegerPrimaryKeyPosition) lastDenseTask.getTaskProgress().getPosition()).getBeginValue(), is(1081L));
+        assertThat(((IntegerPrimaryKeyPosition) lastDenseTask.getTaskProgress().getPosition()).getEndValue(), is(1090L));
+        InventoryTask lastTask = actual.get(109);
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getBeginValue(), is(1091L));
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getEndValue(), is(1000004L));
+    }
+    
     @Test
     void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(dumperConfig);
@@ -166,6 +205,35 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initSparseIntPrimaryEnvironment(final DumperConfiguration dumperConfig, final int denseRecordsCount) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= denseRecordsCount; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+            for (int i = 1000000; i <= 1000004; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+        }
+    }
+    
+    private void initUniformSparseIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i * 100000));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (